@@ -0,0 +1,51 @@
+package com.example.ododok.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "gemini.resilience")
+public class GeminiResilienceProperties {
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Bulkhead bulkhead = new Bulkhead();
+    private RateLimit rateLimit = new RateLimit();
+    private Hedge hedge = new Hedge();
+
+    @Data
+    public static class CircuitBreaker {
+        private int slidingWindowSize = 20;                    // 최근 N건 기준으로 실패율 계산
+        private int minimumCalls = 10;                         // 이 건수 미만이면 차단하지 않음
+        private int failureRateThreshold = 50;                 // 실패율(%) 이상이면 차단
+        private Duration slowCallThreshold = Duration.ofSeconds(15); // 이보다 느린 호출은 실패로 집계
+        private Duration openDuration = Duration.ofSeconds(30);      // 차단 유지 시간
+        private int halfOpenPermits = 3;                       // 반개방 상태 시험 호출 수
+    }
+
+    @Data
+    public static class Bulkhead {
+        private int maxConcurrentCalls = 20;
+        private Duration maxWait = Duration.ofMillis(500);
+    }
+
+    @Data
+    public static class RateLimit {
+        private int requestsPerMinute = 60;                    // 분당 요청 수 한도
+        private int burst = 10;                                // 한 번에 몰아 쓸 수 있는 요청 수
+        private int tokensPerMinute = 0;                       // 분당 토큰 한도 (0이면 미적용)
+        private Duration maxWait = Duration.ofSeconds(3);      // 대기열 최대 대기 시간, 초과 시 임시 채점으로 대체
+    }
+
+    @Data
+    public static class Hedge {
+        private boolean enabled = false;
+        private int percentile = 95;                           // 이 백분위 지연까지 응답이 없으면 중복 요청
+        private int maxExtraPercent = 10;                      // 중복 요청은 전체 호출의 이 비율(%) 이하
+        private int sampleSize = 200;                          // 지연 백분위 계산에 쓰는 최근 호출 수
+        private int minSamples = 20;                           // 표본이 이보다 적으면 중복 요청하지 않음
+        private Duration minDelay = Duration.ofMillis(200);    // 중복 요청 전 최소 대기 시간
+    }
+}
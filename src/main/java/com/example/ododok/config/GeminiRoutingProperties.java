@@ -0,0 +1,27 @@
+package com.example.ododok.config;
+
+import com.example.ododok.service.GeminiTask;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "gemini.routing")
+public class GeminiRoutingProperties {
+    private Map<GeminiTask, String> models = new EnumMap<>(GeminiTask.class);          // 용도별 모델 (없으면 gemini.api.model)
+    private Map<GeminiTask, String> downshiftModels = new EnumMap<>(GeminiTask.class); // 과부하 시 전환할 모델 (없으면 전환 안 함)
+    private Downshift downshift = new Downshift();
+
+    @Data
+    public static class Downshift {
+        private boolean enabled = true;
+        private int queueDepthThreshold = 10;                  // 호출 한도/동시 호출 대기 수가 이 이상이면 전환
+        private Duration latencyThreshold = Duration.ofSeconds(8); // 기본 모델 평균 지연이 이 이상이면 전환
+        private Duration cooldown = Duration.ofSeconds(30);    // 마지막 과부하 감지 후 이 시간 동안 전환 유지
+    }
+}
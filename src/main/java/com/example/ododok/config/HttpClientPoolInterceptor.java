@@ -0,0 +1,122 @@
+package com.example.ododok.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공용 HTTP 클라이언트의 동시 요청 한도 (HTTP/2는 연결 하나에 스트림을 다중화하므로 요청 단위로 제한)
+ */
+@Component
+public class HttpClientPoolInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public HttpClientPoolInterceptor(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(properties.getMaxConcurrentRequests(), true);
+        this.acquireTimeoutMs = properties.getAcquireTimeout().toMillis();
+
+        Gauge.builder("http.client.pool.active", active, AtomicInteger::get)
+                .description("진행 중인 외부 HTTP 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.pending", pending, AtomicInteger::get)
+                .description("한도 대기 중인 외부 HTTP 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.max", properties, p -> p.getMaxConcurrentRequests())
+                .description("외부 HTTP 동시 요청 한도")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        boolean acquired;
+        pending.incrementAndGet();
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("HTTP 요청 대기 중 중단되었습니다.");
+        } finally {
+            pending.decrementAndGet();
+        }
+
+        if (!acquired) {
+            throw new IOException("외부 HTTP 동시 요청 한도 초과: " + request.getURI().getHost());
+        }
+
+        active.incrementAndGet();
+        try {
+            return new PermitReleasingResponse(execution.execute(request, body));
+        } catch (IOException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    private void release() {
+        active.decrementAndGet();
+        permits.release();
+    }
+
+    /**
+     * 응답 본문을 다 읽고 닫을 때 한도 반환 (스트리밍 응답도 읽는 동안은 한도에 포함)
+     */
+    private final class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    release();
+                }
+            }
+        }
+    }
+}
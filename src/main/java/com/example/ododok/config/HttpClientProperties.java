@@ -0,0 +1,17 @@
+package com.example.ododok.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "http.client")
+public class HttpClientProperties {
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private int maxConcurrentRequests = 100;
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,23 @@
+package com.example.ododok.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "llm.cache")
+public class LlmCacheProperties {
+    private boolean enabled = true;
+    private int maxEntries = 10000;
+    private Duration ttl = Duration.ofHours(24);
+    private Persistent persistent = new Persistent();
+
+    @Data
+    public static class Persistent {
+        private boolean enabled = false;           // Postgres 2차 캐시 사용 여부
+        private Duration ttl = Duration.ofDays(7);
+    }
+}
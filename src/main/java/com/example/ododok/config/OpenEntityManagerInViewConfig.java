@@ -0,0 +1,37 @@
+package com.example.ododok.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * spring.jpa.open-in-view 대신 경로별로 OSIV 적용
+ * 채점 엔드포인트는 LLM 호출 동안 DB 커넥션을 붙잡지 않도록 제외
+ */
+@Configuration
+@RequiredArgsConstructor
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+
+    // LLM 호출이 포함된 엔드포인트 (OSIV 미적용)
+    static final String[] LLM_BACKED_PATHS = {
+            "/problem",
+            "/problem/async",
+            "/problem/jobs/**",
+            "/problem/sessions/**",
+            "/feedback/**"
+    };
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+
+        registry.addWebRequestInterceptor(interceptor)
+                .excludePathPatterns(LLM_BACKED_PATHS);
+    }
+}
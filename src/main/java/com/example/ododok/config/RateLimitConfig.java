@@ -0,0 +1,22 @@
+package com.example.ododok.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * LLM 호출 엔드포인트에 사용자별 요청 제한 적용 (공용 Gemini 호출 한도를 한 사용자가 소진하지 않도록)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final UserRateLimitInterceptor userRateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(userRateLimitInterceptor)
+                .addPathPatterns(UserRateLimitInterceptor.RATE_LIMITED_PATHS);
+    }
+}
@@ -1,14 +1,41 @@
 package com.example.ododok.config;
 
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * 공용 HTTP 클라이언트 (HTTP/2, keep-alive 연결 재사용, 연결 타임아웃)
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient httpClient(HttpClientProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     HttpClient httpClient,
+                                     HttpClientProperties properties,
+                                     HttpClientPoolInterceptor poolInterceptor) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+
+        return builder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(poolInterceptor)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.example.ododok.config;
+
+import com.example.ododok.exception.RateLimitExceededException;
+import com.example.ododok.service.UserRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * LLM 호출 엔드포인트의 사용자별 요청 제한 (JWT 사용자 id, 토큰이 없으면 클라이언트 IP 기준)
+ * 조회(GET)는 Gemini를 호출하지 않으므로 제한하지 않음
+ * 면접 세션 답변은 한 세션에 문제 수만큼 오므로 session-answer-cost만큼만 차감 (세션 생성은 Gemini를 호출하지 않아 제외)
+ * 같은 문제 재답변과 세션 수는 InterviewSessionService가 문제별/사용자별 한도로 막음
+ */
+@Slf4j
+@Component
+public class UserRateLimitInterceptor implements HandlerInterceptor {
+
+    static final String[] RATE_LIMITED_PATHS = {
+            "/problem",
+            "/problem/async",
+            "/problem/sessions/*/answers",
+            "/problem/sessions/*/submit",
+            "/feedback",
+            "/feedback/**"
+    };
+
+    private static final String SESSION_ANSWER_PATH = "/problem/sessions/*/answers";
+
+    private final UserRateLimiter rateLimiter;
+    private final double sessionAnswerCost;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final Counter rejected;
+
+    public UserRateLimitInterceptor(UserRateLimiter rateLimiter,
+                                    @Value("${ratelimit.user.session-answer-cost:0.25}") double sessionAnswerCost,
+                                    MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.sessionAnswerCost = sessionAnswerCost;
+        this.rejected = Counter.builder("ratelimit.user.rejected")
+                .description("사용자별 요청 제한으로 거절한 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+
+        String key = clientKey(request);
+        double cost = pathMatcher.match(SESSION_ANSWER_PATH, request.getServletPath()) ? sessionAnswerCost : 1;
+        Duration retryAfter = rateLimiter.tryAcquire(key, cost);
+        if (!retryAfter.isZero()) {
+            rejected.increment();
+            log.warn("요청 제한 초과 - {} {} ({})", request.getMethod(), request.getRequestURI(), key);
+            throw new RateLimitExceededException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+        }
+        return true;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return "user:" + userId;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -3,12 +3,16 @@ package com.example.ododok.controller;
 import com.example.ododok.dto.FeedbackRequest;
 import com.example.ododok.dto.FeedbackResponse;
 import com.example.ododok.service.FeedbackService;
+import com.example.ododok.service.IdempotencyStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -19,15 +23,22 @@ import jakarta.validation.Valid;
 public class FeedbackController {
 
     private final FeedbackService feedbackService;
+    private final IdempotencyStore idempotencyStore;
 
+    /**
+     * Idempotency-Key는 호출자별로 구분 (JWT 사용자 id, 토큰이 없으면 클라이언트 IP)
+     */
     @PostMapping
     public ResponseEntity<FeedbackResponse> provideFeedback(
-            @Valid @RequestBody FeedbackRequest request) {
+            @Valid @RequestBody FeedbackRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            HttpServletRequest httpRequest) {
 
         try {
             log.info("피드백 요청 수신 - 질문: {}", request.getQuestion());
 
-            FeedbackResponse response = feedbackService.generateFeedback(request);
+            FeedbackResponse response = idempotencyStore.execute("feedback:" + callerKey(httpRequest), idempotencyKey, request,
+                    FeedbackResponse.class, () -> feedbackService.generateFeedback(request));
 
             return ResponseEntity.ok(response);
 
@@ -36,4 +47,12 @@ public class FeedbackController {
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    private String callerKey(HttpServletRequest httpRequest) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return "user:" + userId;
+        }
+        return "ip:" + httpRequest.getRemoteAddr();
+    }
+}
@@ -1,15 +1,25 @@
 package com.example.ododok.controller;
 
+import com.example.ododok.dto.InterviewSessionRequest;
+import com.example.ododok.dto.InterviewSessionResponse;
 import com.example.ododok.dto.ProblemSubmissionRequest;
 import com.example.ododok.dto.ProblemSubmissionResponse;
 import com.example.ododok.dto.QuestionListResponse;
+import com.example.ododok.dto.SubmissionJobResponse;
+import com.example.ododok.service.IdempotencyStore;
+import com.example.ododok.service.InterviewSessionService;
 import com.example.ododok.service.JwtService;
 import com.example.ododok.service.ProblemService;
+import com.example.ododok.service.SubmissionJobService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
 
 @RestController
 @RequestMapping("/problem")
@@ -19,6 +29,9 @@ public class ProblemController {
 
     private final ProblemService problemService;
     private final JwtService jwtService;
+    private final SubmissionJobService submissionJobService;
+    private final InterviewSessionService interviewSessionService;
+    private final IdempotencyStore idempotencyStore;
 
     @GetMapping
     public ResponseEntity<QuestionListResponse> getQuestions(
@@ -35,21 +48,98 @@ public class ProblemController {
         }
     }
 
+    /**
+     * Idempotency-Key가 있으면 같은 키의 재시도는 채점/포인트 지급 없이 처음 응답을 반환
+     */
     @PostMapping
     public ResponseEntity<ProblemSubmissionResponse> submitProblem(
+            @Valid @RequestBody ProblemSubmissionRequest request,
+            @RequestHeader("Authorization") String authHeader,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+
+        // 예외는 GlobalExceptionHandler에서 처리 (예상하지 못한 오류만 로그, 과부하 거절은 429/503 + Retry-After)
+        Long userId = extractUserIdFromToken(authHeader);
+        ProblemSubmissionResponse response = idempotencyStore.execute("problem:" + userId, idempotencyKey, request,
+                ProblemSubmissionResponse.class, () -> problemService.submitProblem(request, userId));
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/async")
+    public ResponseEntity<SubmissionJobResponse> submitProblemAsync(
             @Valid @RequestBody ProblemSubmissionRequest request,
             @RequestHeader("Authorization") String authHeader) {
 
-        try {
-            Long userId = extractUserIdFromToken(authHeader);
-            ProblemSubmissionResponse response = problemService.submitProblem(request, userId);
+        Long userId = extractUserIdFromToken(authHeader);
+        SubmissionJobResponse response = submissionJobService.submit(request, userId);
 
-            return ResponseEntity.ok(response);
+        return ResponseEntity.accepted()
+                .location(URI.create("/problem/jobs/" + response.getJobId()))
+                .body(response);
+    }
 
-        } catch (Exception e) {
-            log.error("Problem submission failed", e);
-            throw e;
-        }
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<SubmissionJobResponse> getSubmissionJob(
+            @PathVariable String jobId,
+            @RequestHeader("Authorization") String authHeader) {
+
+        Long userId = extractUserIdFromToken(authHeader);
+        return ResponseEntity.ok(submissionJobService.getJob(jobId, userId));
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSubmissionJob(
+            @PathVariable String jobId,
+            @RequestHeader("Authorization") String authHeader) {
+
+        Long userId = extractUserIdFromToken(authHeader);
+        return submissionJobService.subscribe(jobId, userId);
+    }
+
+    /**
+     * 모의 면접 세션 시작 (답변마다 미리 채점, 최종 제출은 집계만)
+     */
+    @PostMapping("/sessions")
+    public ResponseEntity<InterviewSessionResponse> createSession(
+            @Valid @RequestBody InterviewSessionRequest request,
+            @RequestHeader("Authorization") String authHeader) {
+
+        Long userId = extractUserIdFromToken(authHeader);
+        InterviewSessionResponse response = interviewSessionService.create(request, userId);
+
+        return ResponseEntity.created(URI.create("/problem/sessions/" + response.getSessionId()))
+                .body(response);
+    }
+
+    @GetMapping("/sessions/{sessionId}")
+    public ResponseEntity<InterviewSessionResponse> getSession(
+            @PathVariable String sessionId,
+            @RequestHeader("Authorization") String authHeader) {
+
+        Long userId = extractUserIdFromToken(authHeader);
+        return ResponseEntity.ok(interviewSessionService.get(sessionId, userId));
+    }
+
+    /**
+     * 답변 하나 등록 (다음 문제로 넘어갈 때 호출, 채점은 백그라운드에서 진행)
+     */
+    @PostMapping("/sessions/{sessionId}/answers")
+    public ResponseEntity<InterviewSessionResponse> submitSessionAnswer(
+            @PathVariable String sessionId,
+            @Valid @RequestBody ProblemSubmissionRequest.Answer answer,
+            @RequestHeader("Authorization") String authHeader) {
+
+        Long userId = extractUserIdFromToken(authHeader);
+        return ResponseEntity.accepted().body(interviewSessionService.submitAnswer(sessionId, userId, answer));
+    }
+
+    @PostMapping("/sessions/{sessionId}/submit")
+    public ResponseEntity<ProblemSubmissionResponse> submitSession(
+            @PathVariable String sessionId,
+            @RequestHeader("Authorization") String authHeader) {
+
+        Long userId = extractUserIdFromToken(authHeader);
+        return ResponseEntity.ok(interviewSessionService.submit(sessionId, userId));
     }
 
     private Long extractUserIdFromToken(String authHeader) {
@@ -0,0 +1,24 @@
+package com.example.ododok.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerScore {
+
+    private Long questionId;
+    private Integer logicScore;      // 논리성 점수
+    private Integer accuracyScore;   // 정확성 점수
+    private Integer clarityScore;    // 명확성 점수
+    private Integer pointsEarned;    // 지급 포인트
+    private String feedback;         // 답변별 피드백
+    private boolean degraded;        // 임시 점수 (추후 재채점 대상)
+
+    public AnswerScore(Long questionId, Integer logicScore, Integer accuracyScore, Integer clarityScore,
+                       Integer pointsEarned, String feedback) {
+        this(questionId, logicScore, accuracyScore, clarityScore, pointsEarned, feedback, false);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.ododok.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchScoringResult {
+
+    private List<Item> items;        // 입력 순서와 동일, 검증 실패 항목은 null
+    private String overallComment;   // 종합 코멘트 (누락 시 null)
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private TechnicalFeedbackResponse technical;     // 기술 면접 결과
+        private PersonalityFeedbackResponse personality; // 인성 면접 결과
+    }
+}
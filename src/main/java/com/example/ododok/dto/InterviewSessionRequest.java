@@ -0,0 +1,19 @@
+package com.example.ododok.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewSessionRequest {
+
+    @NotEmpty(message = "문제 목록이 비어있을 수 없습니다")
+    private List<@NotNull @Positive Long> questionIds;   // GET /problem 으로 받은 문제 순서대로
+}
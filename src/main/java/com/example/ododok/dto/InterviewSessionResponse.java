@@ -0,0 +1,21 @@
+package com.example.ododok.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewSessionResponse {
+
+    private String sessionId;
+    private String status;                    // OPEN, SUBMITTED
+    private List<Long> questionIds;
+    private Integer answeredCount;            // 답변을 받은 문제 수
+    private Integer scoredCount;              // 채점이 끝난 문제 수
+    private List<AnswerScore> answers;        // 문제 순서대로, 아직 채점되지 않은 항목은 null
+    private ProblemSubmissionResponse result; // 제출 후 최종 결과
+}
@@ -12,4 +12,9 @@ public class PersonalityFeedbackResponse {
     private Boolean isRelevant;    // 질문과 답변의 연관성 (true/false)
     private String feedback;       // 상세 피드백
     private Integer pointsAwarded; // 지급된 포인트
+    private boolean degraded;      // Gemini 장애로 로컬 임시 채점된 경우
+
+    public PersonalityFeedbackResponse(Boolean isRelevant, String feedback, Integer pointsAwarded) {
+        this(isRelevant, feedback, pointsAwarded, false);
+    }
 }
\ No newline at end of file
@@ -16,4 +16,10 @@ public class ProblemSubmissionResponse {
     private Integer pointsEarned;        // 인성 면접 포인트
     private Integer rank;
     private String overallComment;       // 종합 코멘트
+    private Boolean degraded;            // 일부 답변이 임시 점수로 채점됨 (추후 재채점)
+
+    public ProblemSubmissionResponse(String message, Integer averageScore, Integer logicScore, Integer accuracyScore,
+                                     Integer clarityScore, Integer pointsEarned, Integer rank, String overallComment) {
+        this(message, averageScore, logicScore, accuracyScore, clarityScore, pointsEarned, rank, overallComment, false);
+    }
 }
\ No newline at end of file
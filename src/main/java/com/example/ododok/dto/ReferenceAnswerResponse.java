@@ -0,0 +1,14 @@
+package com.example.ododok.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceAnswerResponse {
+
+    private String referenceAnswer;  // 모범 답안
+    private String rubric;           // 채점 기준 (줄 단위)
+}
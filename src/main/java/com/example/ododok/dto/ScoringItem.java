@@ -0,0 +1,43 @@
+package com.example.ododok.dto;
+
+import com.example.ododok.entity.Question;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoringItem {
+
+    private Long questionId;
+    private String interviewType;   // 면접 타입 (Question.title)
+    private String question;
+    private String answer;
+    private String referenceAnswer; // 모범 답안 (Question.answer)
+    private String rubric;          // 사전 생성된 채점 기준 (없으면 null)
+
+    public ScoringItem(Long questionId, String interviewType, String question, String answer, String referenceAnswer) {
+        this(questionId, interviewType, question, answer, referenceAnswer, null);
+    }
+
+    public static ScoringItem of(Question question, String answer) {
+        return new ScoringItem(
+                question.getId(),
+                question.getTitle(),
+                question.getQuestion(),
+                answer,
+                question.getAnswer()
+        );
+    }
+
+    // 기술면접: "TECHNICAL" 또는 "기술면접"
+    public boolean isTechnical() {
+        return "TECHNICAL".equals(interviewType) || "기술면접".equals(interviewType);
+    }
+
+    // 인성면접: "PERSONALITY" 또는 "인성면접"
+    public boolean isPersonality() {
+        return "PERSONALITY".equals(interviewType) || "인성면접".equals(interviewType);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ododok.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionJobResponse {
+
+    private String jobId;
+    private String status;                    // PENDING, RUNNING, COMPLETED, FAILED
+    private Integer totalAnswers;
+    private Integer completedAnswers;
+    private List<AnswerScore> answers;        // 제출 순서대로, 아직 채점되지 않은 항목은 null
+    private ProblemSubmissionResponse result; // 완료 시 최종 결과
+    private String error;                     // 실패 사유
+}
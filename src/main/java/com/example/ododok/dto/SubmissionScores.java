@@ -0,0 +1,16 @@
+package com.example.ododok.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionScores {
+
+    private List<AnswerScore> answers;   // 제출 순서대로 정렬된 답변별 점수
+    private String overallComment;       // 종합 코멘트
+}
@@ -13,4 +13,9 @@ public class TechnicalFeedbackResponse {
     private Integer accuracyScore;   // 정확성 점수 (0~5)
     private Integer clarityScore;    // 명확성 점수 (0~5)
     private String feedback;         // 상세 피드백
+    private boolean degraded;        // Gemini 장애로 로컬 임시 채점된 경우
+
+    public TechnicalFeedbackResponse(Integer logicScore, Integer accuracyScore, Integer clarityScore, String feedback) {
+        this(logicScore, accuracyScore, clarityScore, feedback, false);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.ododok.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 배치 작업별 마지막 처리 ID (재시작 시 이어서 진행)
+ * locked_by/locked_until은 여러 노드 중 한 노드만 작업을 실행하도록 잡는 점유 정보
+ */
+@Entity
+@Table(name = "batch_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(nullable = false, name = "last_id")
+    private Long lastId;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
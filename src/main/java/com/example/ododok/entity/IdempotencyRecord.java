@@ -0,0 +1,32 @@
+package com.example.ododok.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 처리 기록 (IdempotencyKeyStore에서 JDBC로 선점/조회/갱신)
+ * payload가 없으면 아직 처리 중인 요청
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "store_key", length = 64)
+    private String storeKey;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false, name = "expires_at")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,28 @@
+package com.example.ododok.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * LLM 응답 캐시 2차 저장소 행 (LlmResponseCacheStore에서 JDBC로 조회/갱신)
+ */
+@Entity
+@Table(name = "llm_response_cache")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmResponseCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false, name = "expires_at")
+    private LocalDateTime expiresAt;
+}
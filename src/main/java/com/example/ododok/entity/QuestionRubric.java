@@ -0,0 +1,32 @@
+package com.example.ododok.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 문제별 채점 기준 (모범 답안 사전 생성 작업이 저장, QuestionRubricStore에서 JDBC로 조회/갱신)
+ * rubric이 비어 있으면 생성에 실패한 문제 (attempts가 한도에 닿으면 더 시도하지 않음)
+ */
+@Entity
+@Table(name = "question_rubrics")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionRubric {
+
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    @Column(length = 4000)
+    private String rubric;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false, name = "generated_at")
+    private LocalDateTime generatedAt;
+}
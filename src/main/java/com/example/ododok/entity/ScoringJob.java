@@ -0,0 +1,60 @@
+package com.example.ododok.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 제출 채점 작업 큐 행 (ScoringJobStore에서 SKIP LOCKED 쿼리로 가져가 처리)
+ */
+@Entity
+@Table(name = "scoring_jobs", indexes = {
+    @Index(name = "idx_scoring_jobs_available", columnList = "status, available_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoringJob {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false, name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false, name = "total_answers")
+    private Integer totalAnswers;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false, name = "available_at")
+    private LocalDateTime availableAt;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(columnDefinition = "TEXT")
+    private String result;
+
+    @Column(length = 500)
+    private String error;
+
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
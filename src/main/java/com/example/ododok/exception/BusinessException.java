@@ -0,0 +1,18 @@
+package com.example.ododok.exception;
+
+/**
+ * CSV 처리 외의 도메인 규칙 위반 (상태 코드는 errorCode로 결정)
+ */
+public class BusinessException extends RuntimeException {
+
+    private final String errorCode;
+
+    public BusinessException(String message, String errorCode) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.ododok.exception;
+
+/**
+ * Gemini 호출을 시도하지 않고 즉시 거절한 경우 (서킷 차단, 동시 호출 한도 초과 등)
+ */
+public class GeminiUnavailableException extends RuntimeException {
+
+    public GeminiUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.ododok.exception;
 
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -43,6 +44,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(errorResponse);
     }
 
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
+        HttpStatus status = determineHttpStatus(e.getErrorCode());
+        ErrorResponse errorResponse = new ErrorResponse(
+                status.value(),
+                e.getMessage(),
+                e.getErrorCode()
+        );
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException e) {
+        HttpStatus status = determineHttpStatus(e.getErrorCode());
+        ErrorResponse errorResponse = new ErrorResponse(
+                status.value(),
+                e.getMessage(),
+                e.getErrorCode()
+        );
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException e) {
         ErrorResponse errorResponse = new ErrorResponse(
@@ -130,16 +155,23 @@ public class GlobalExceptionHandler {
         }
 
         return switch (errorCode) {
-            case "HEADER_MISMATCH", "INVALID_CSV_FORMAT", "EMPTY_FILE" -> HttpStatus.BAD_REQUEST;
+            case "HEADER_MISMATCH", "INVALID_CSV_FORMAT", "EMPTY_FILE", "EMPTY_SESSION",
+                 "INVALID_IDEMPOTENCY_KEY" -> HttpStatus.BAD_REQUEST;
             case "USER_NOT_FOUND" -> HttpStatus.UNAUTHORIZED;
-            case "COMPANY_NOT_FOUND", "CATEGORY_NOT_FOUND", "QUESTION_NOT_FOUND" -> HttpStatus.NOT_FOUND;
-            case "DUPLICATE_QUESTION", "DUPLICATE_TITLE" -> HttpStatus.CONFLICT;
+            case "COMPANY_NOT_FOUND", "CATEGORY_NOT_FOUND", "QUESTION_NOT_FOUND", "JOB_NOT_FOUND",
+                 "SESSION_NOT_FOUND" -> HttpStatus.NOT_FOUND;
+            case "DUPLICATE_QUESTION", "DUPLICATE_TITLE", "SESSION_ALREADY_SUBMITTED",
+                 "IDEMPOTENCY_KEY_IN_PROGRESS" -> HttpStatus.CONFLICT;
+            case "TOO_MANY_SESSIONS", "TOO_MANY_ANSWERS", "RATE_LIMITED",
+                 "SCORING_QUEUE_FULL" -> HttpStatus.TOO_MANY_REQUESTS;
+            case "SCORING_QUEUE_TIMEOUT" -> HttpStatus.SERVICE_UNAVAILABLE;
             case "FILE_SIZE_EXCEEDED", "TOO_MANY_ROWS" -> HttpStatus.PAYLOAD_TOO_LARGE;
             case "INVALID_CONTENT_TYPE" -> HttpStatus.UNSUPPORTED_MEDIA_TYPE;
             case "FK_NOT_FOUND", "INVALID_DIFFICULTY_LABEL", "REQUIRED_FIELD_MISSING",
                  "FIELD_TOO_LONG", "INVALID_YEAR_FORMAT", "MUTUAL_EXCLUSION_VIOLATION",
                  "INVALID_ID_FORMAT", "INVALID_DIFFICULTY", "INVALID_TITLE", "TOO_MANY_TAGS",
-                 "TAG_TOO_LONG", "INVALID_SORT", "INVALID_TYPE" -> HttpStatus.UNPROCESSABLE_ENTITY;
+                 "TAG_TOO_LONG", "INVALID_SORT", "INVALID_TYPE",
+                 "IDEMPOTENCY_KEY_REUSED" -> HttpStatus.UNPROCESSABLE_ENTITY;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
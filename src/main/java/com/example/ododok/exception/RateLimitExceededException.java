@@ -0,0 +1,33 @@
+package com.example.ododok.exception;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한/과부하로 거절 (Retry-After 포함, 상태 코드는 errorCode로 결정)
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String errorCode;
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        this(message, "RATE_LIMITED", retryAfter);
+    }
+
+    public RateLimitExceededException(String message, String errorCode, Duration retryAfter) {
+        super(message);
+        this.errorCode = errorCode;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
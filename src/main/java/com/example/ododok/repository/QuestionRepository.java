@@ -16,6 +16,20 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
 
     Optional<Question> findByTitle(String title);
 
+    // 모범 답안 유사도 채점용 코퍼스
+    @Query("SELECT q.answer FROM Question q WHERE q.answer IS NOT NULL AND q.answer <> ''")
+    List<String> findAllReferenceAnswers();
+
+    // 모범 답안 사전 생성 작업: 체크포인트 이후 모범 답안이 없고, 채점 기준도 없는 문제 (실패 횟수가 한도에 닿은 문제 제외)
+    @Query("SELECT q FROM Question q WHERE q.id > :afterId AND q.answer IS NULL " +
+            "AND NOT EXISTS (SELECT r FROM QuestionRubric r WHERE r.questionId = q.id " +
+            "AND (r.rubric IS NOT NULL OR r.attempts >= :maxAttempts)) " +
+            "ORDER BY q.id")
+    List<Question> findPregenerationTargets(
+            @Param("afterId") Long afterId,
+            @Param("maxAttempts") int maxAttempts,
+            org.springframework.data.domain.Pageable pageable);
+
     @Query("SELECT q FROM Question q " +
             "WHERE q.isPublic = true " +
             "AND (:categoryId IS NULL OR q.categoryId = :categoryId) " +
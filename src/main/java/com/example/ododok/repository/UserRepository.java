@@ -2,6 +2,7 @@ package com.example.ododok.repository;
 
 import com.example.ododok.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -15,8 +16,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Ranking methods
     List<User> findAllByOrderByPointsDescUserIdAsc();
 
+    // 랭크 인덱스 구성용 (엔티티 대신 id/포인트만 조회)
+    @Query("SELECT u.userId AS userId, u.points AS points FROM User u")
+    List<UserPoints> findAllPoints();
+
     // Search methods
     org.springframework.data.domain.Page<User> findByUsernameContainingIgnoreCase(
             String username,
             org.springframework.data.domain.Pageable pageable);
-}
\ No newline at end of file
+
+    interface UserPoints {
+        Long getUserId();
+        Integer getPoints();
+    }
+}
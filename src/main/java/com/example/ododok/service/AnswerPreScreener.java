@@ -0,0 +1,137 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.PersonalityFeedbackResponse;
+import com.example.ododok.dto.TechnicalFeedbackResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * LLM 호출 전 로컬 사전 판정 (빈 답변, "모르겠습니다" 류, 질문 복사)
+ * 판정되면 Gemini를 호출하지 않고 0점 결과를 바로 반환하고, 절약한 호출 수를 기록
+ */
+@Slf4j
+@Component
+public class AnswerPreScreener {
+
+    // 공백/문장부호를 제거한 답변이 이 중 하나면 답변 없음으로 판정
+    private static final Set<String> STOP_PHRASES = Set.of(
+            "모르겠습니다", "모르겠어요", "모르겠음", "모르겠다", "잘모르겠습니다", "잘모르겠어요", "모릅니다", "몰라요", "모름",
+            "없습니다", "없어요", "없음", "답변없음", "생각이안납니다", "기억이안납니다", "기억안남",
+            "패스", "pass", "skip", "idk", "x", "ㅁㄹ", "ㅇㅇ", "test", "테스트");
+
+    enum Reason {
+        BLANK("답변이 비어 있어 평가할 수 없습니다."),
+        TOO_SHORT("답변이 너무 짧아 평가할 수 없습니다. 생각을 한두 문장으로 적어보세요."),
+        STOP_PHRASE("답변 내용이 없어 평가할 수 없습니다. 알고 있는 내용을 조금이라도 적어보세요."),
+        COPIED_QUESTION("질문을 그대로 옮긴 답변은 평가할 수 없습니다. 자신의 생각을 적어보세요.");
+
+        private final String feedback;
+
+        Reason(String feedback) {
+            this.feedback = feedback;
+        }
+    }
+
+    private final boolean enabled;
+    private final int minLength;
+    private final double copyOverlap;
+    private final MeterRegistry meterRegistry;
+
+    public AnswerPreScreener(@Value("${scoring.prescreen.enabled:true}") boolean enabled,
+                             @Value("${scoring.prescreen.min-length:2}") int minLength,
+                             @Value("${scoring.prescreen.copy-overlap:0.9}") double copyOverlap,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.minLength = minLength;
+        this.copyOverlap = copyOverlap;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 기술 면접 답변 사전 판정 (LLM 채점이 필요하면 null)
+     */
+    public TechnicalFeedbackResponse screenTechnical(String question, String answer) {
+        Reason reason = screen(question, answer, "technical");
+        return reason == null ? null : new TechnicalFeedbackResponse(0, 0, 0, reason.feedback);
+    }
+
+    /**
+     * 인성 면접 답변 사전 판정 (LLM 채점이 필요하면 null)
+     */
+    public PersonalityFeedbackResponse screenPersonality(String question, String answer) {
+        Reason reason = screen(question, answer, "personality");
+        return reason == null ? null : new PersonalityFeedbackResponse(false, reason.feedback, 0);
+    }
+
+    Reason screen(String question, String answer, String type) {
+        if (!enabled) {
+            return null;
+        }
+
+        Reason reason = classify(question, answer);
+        if (reason != null) {
+            log.debug("사전 판정으로 LLM 호출 생략: {} ({})", reason, type);
+            Counter.builder("scoring.prescreen.skipped")
+                    .description("사전 판정으로 생략한 LLM 호출 수")
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .tag("type", type)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return reason;
+    }
+
+    private Reason classify(String question, String answer) {
+        String normalized = normalize(answer);
+        String compact = normalized.replace(" ", "");
+
+        if (compact.isEmpty()) {
+            return Reason.BLANK;
+        }
+        if (STOP_PHRASES.contains(compact)) {
+            return Reason.STOP_PHRASE;
+        }
+        if (compact.length() < minLength) {
+            return Reason.TOO_SHORT;
+        }
+        if (isCopiedQuestion(normalize(question), normalized)) {
+            return Reason.COPIED_QUESTION;
+        }
+        return null;
+    }
+
+    /**
+     * 답변 토큰 대부분이 질문 토큰이고 질문보다 길지 않으면 질문 복사로 판정
+     */
+    private boolean isCopiedQuestion(String question, String answer) {
+        if (question.isEmpty() || answer.length() > question.length() + 10) {
+            return false;
+        }
+
+        Set<String> questionTokens = Arrays.stream(question.split(" ")).collect(Collectors.toSet());
+        String[] answerTokens = answer.split(" ");
+        long overlapping = Arrays.stream(answerTokens).filter(questionTokens::contains).count();
+        return (double) overlapping / answerTokens.length >= copyOverlap;
+    }
+
+    /**
+     * 소문자화 + 문장부호 제거 + 공백 정리
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT)
+                .replaceAll("[\\p{P}\\p{S}]", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+}
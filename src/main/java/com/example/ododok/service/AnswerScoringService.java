@@ -0,0 +1,322 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.AnswerScore;
+import com.example.ododok.dto.BatchScoringResult;
+import com.example.ododok.dto.PersonalityFeedbackResponse;
+import com.example.ododok.dto.ScoringItem;
+import com.example.ododok.dto.SubmissionScores;
+import com.example.ododok.dto.TechnicalFeedbackResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+public class AnswerScoringService {
+
+    private final GeminiService geminiService;
+    private final AnswerPreScreener preScreener;
+    private final ReferenceAnswerScorer referenceAnswerScorer;
+    private final PromptBudget promptBudget;
+    private final Semaphore globalPermits;
+    private final int perSubmissionConcurrency;
+    private final String mode;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AnswerScoringService(GeminiService geminiService,
+                                AnswerPreScreener preScreener,
+                                ReferenceAnswerScorer referenceAnswerScorer,
+                                PromptBudget promptBudget,
+                                @Value("${scoring.concurrency.global:64}") int globalConcurrency,
+                                @Value("${scoring.concurrency.per-submission:5}") int perSubmissionConcurrency,
+                                @Value("${scoring.mode:parallel}") String mode) {
+        this.geminiService = geminiService;
+        this.preScreener = preScreener;
+        this.referenceAnswerScorer = referenceAnswerScorer;
+        this.promptBudget = promptBudget;
+        this.globalPermits = new Semaphore(globalConcurrency, true);
+        this.perSubmissionConcurrency = perSubmissionConcurrency;
+        this.mode = mode;
+    }
+
+    /**
+     * 답변 하나의 채점이 끝날 때마다 호출 (index는 제출 순서 기준, 답변마다 한 번)
+     * NONE이 아니면 종합 코멘트를 스트리밍으로 생성해 텍스트 조각을 onCommentChunk로 전달
+     * (일괄 채점 모드는 응답에 함께 온 코멘트를 한 조각으로 전달)
+     */
+    public interface ScoreListener {
+        ScoreListener NONE = (index, score) -> { };
+
+        void onScored(int index, AnswerScore score);
+
+        default void onCommentChunk(String chunk) {
+        }
+    }
+
+    /**
+     * 제출 전체 채점 (답변별 점수 + 종합 코멘트)
+     */
+    public SubmissionScores scoreSubmission(List<ScoringItem> items) {
+        return scoreSubmission(items, ScoreListener.NONE);
+    }
+
+    /**
+     * 제출 전체 채점, 답변별 결과는 완료되는 즉시 listener로 전달
+     */
+    public SubmissionScores scoreSubmission(List<ScoringItem> items, ScoreListener listener) {
+        if ("batch".equalsIgnoreCase(mode)) {
+            return scoreBatch(items, listener);
+        }
+
+        // 종합 코멘트는 개별 채점과 동시에 시작
+        CompletableFuture<String> overallComment = supplyAsync(() -> generateOverallComment(items, listener));
+        List<AnswerScore> answers = scoreAll(items, listener);
+        return new SubmissionScores(answers, overallComment.join());
+    }
+
+    /**
+     * 답변들을 가상 스레드에서 병렬 채점 (완료 순서와 무관하게 입력 순서대로 반환)
+     */
+    public List<AnswerScore> scoreAll(List<ScoringItem> items) {
+        return scoreAll(items, ScoreListener.NONE);
+    }
+
+    private List<AnswerScore> scoreAll(List<ScoringItem> items, ScoreListener listener) {
+        Semaphore submissionPermits = new Semaphore(perSubmissionConcurrency);
+
+        List<CompletableFuture<AnswerScore>> futures = IntStream.range(0, items.size())
+                .mapToObj(index -> CompletableFuture.supplyAsync(() -> {
+                    AnswerScore score = withPermits(submissionPermits, () -> scoreAnswer(items.get(index)));
+                    listener.onScored(index, score);
+                    return score;
+                }, executor))
+                .toList();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    /**
+     * 채점 풀에서 임의 작업 실행 (종합 코멘트 등, 전역 동시성 한도 적용)
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> withPermits(null, task), executor);
+    }
+
+    /**
+     * 수락 제어를 먼저 통과한 뒤 채점 풀에서 실행 (동기 제출과 같은 순서로 한도를 잡아 서로 막지 않도록)
+     */
+    public <T> CompletableFuture<T> supplyAsync(ScoringAdmissionController admission, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> admission.admit(() -> withPermits(null, task)), executor);
+    }
+
+    /**
+     * 단일 답변 채점 (면접 타입별 처리)
+     */
+    public AnswerScore scoreAnswer(ScoringItem item) {
+        AnswerScore local = scoreLocally(item);
+        if (local != null) {
+            return local;
+        }
+
+        if (item.isTechnical()) {
+            // 기술 면접: 논리성, 정확성, 명확성 점수 계산
+            return toAnswerScore(item, item.getRubric() == null
+                    ? geminiService.generateTechnicalFeedback(item.getQuestion(), item.getAnswer())
+                    : geminiService.generateTechnicalFeedback(item.getQuestion(), item.getAnswer(), item.getRubric()));
+
+        } else if (item.isPersonality()) {
+            // 인성 면접: 연관성 판단 및 포인트 지급
+            return toAnswerScore(item, geminiService.generatePersonalityFeedback(item.getQuestion(), item.getAnswer()));
+        }
+
+        // 면접 타입이 지정되지 않은 경우 기본값 지급
+        log.warn("Unknown interview type: {}. Awarding default values.", item.getInterviewType());
+        return new AnswerScore(item.getQuestionId(), 10, 10, 10, 100, null);
+    }
+
+    /**
+     * Gemini 호출 없이 로컬에서 판정 가능한 답변 채점 (LLM 채점이 필요하면 null)
+     * 빈 답변/질문 복사 등은 0점, 기술 면접은 모범 답안과 충분히 유사하면 바로 채점
+     */
+    private AnswerScore scoreLocally(ScoringItem item) {
+        if (item.isTechnical()) {
+            TechnicalFeedbackResponse screened = preScreener.screenTechnical(item.getQuestion(), item.getAnswer());
+            if (screened == null) {
+                screened = referenceAnswerScorer.score(item);
+            }
+            return screened == null ? null : toAnswerScore(item, screened);
+        } else if (item.isPersonality()) {
+            PersonalityFeedbackResponse screened = preScreener.screenPersonality(item.getQuestion(), item.getAnswer());
+            return screened == null ? null : toAnswerScore(item, screened);
+        }
+        return null;
+    }
+
+    /**
+     * 종합 코멘트 생성 (모든 Q/A 요약, 답변이 길면 예산 안으로 축약)
+     */
+    public String generateOverallComment(List<ScoringItem> items) {
+        return geminiService.generateOverallComment(resolveInterviewType(items), promptBudget.summarize(items));
+    }
+
+    /**
+     * 구독자가 있으면 종합 코멘트를 스트리밍으로 생성해 조각마다 listener로 전달
+     */
+    private String generateOverallComment(List<ScoringItem> items, ScoreListener listener) {
+        if (listener == ScoreListener.NONE) {
+            return generateOverallComment(items);
+        }
+        return geminiService.streamOverallComment(resolveInterviewType(items), promptBudget.summarize(items),
+                listener::onCommentChunk);
+    }
+
+    /**
+     * 한 번의 프롬프트로 일괄 채점 후, 검증에 실패한 항목만 답변별 호출로 재채점
+     * 일괄 호출 자체가 실패해도 LLM 채점 대상만 개별 채점 (로컬 판정 결과는 다시 계산/전달하지 않음)
+     */
+    private SubmissionScores scoreBatch(List<ScoringItem> items, ScoreListener listener) {
+        AnswerScore[] answers = new AnswerScore[items.size()];
+        List<Integer> llmIndexes = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            ScoringItem item = items.get(i);
+            if (!item.isTechnical() && !item.isPersonality()) {
+                continue;
+            }
+
+            // 로컬에서 판정된 답변은 일괄 프롬프트에서 제외
+            answers[i] = scoreLocally(item);
+            if (answers[i] != null) {
+                listener.onScored(i, answers[i]);
+            } else {
+                llmIndexes.add(i);
+            }
+        }
+
+        List<ScoringItem> llmItems = llmIndexes.stream().map(items::get).toList();
+        BatchScoringResult batch = new BatchScoringResult(List.of(), null);
+        if (!llmItems.isEmpty()) {
+            try {
+                batch = supplyAsync(() -> geminiService.generateBatchScores(resolveInterviewType(items), llmItems)).join();
+            } catch (RuntimeException e) {
+                log.warn("일괄 채점 실패, LLM 채점 대상 {}건만 개별 채점: {}", llmItems.size(), e.getMessage());
+            }
+        }
+
+        for (int i = 0; i < Math.min(llmIndexes.size(), batch.getItems().size()); i++) {
+            BatchScoringResult.Item result = batch.getItems().get(i);
+            ScoringItem item = llmItems.get(i);
+            if (result == null) {
+                continue;
+            }
+            int index = llmIndexes.get(i);
+            answers[index] = item.isTechnical()
+                    ? toAnswerScore(item, result.getTechnical())
+                    : toAnswerScore(item, result.getPersonality());
+            listener.onScored(index, answers[index]);
+        }
+
+        CompletableFuture<String> overallComment;
+        if (batch.getOverallComment() != null) {
+            // 일괄 응답의 코멘트는 이미 완성돼 있으므로 SSE 구독자에게 한 조각으로 전달
+            listener.onCommentChunk(batch.getOverallComment());
+            overallComment = CompletableFuture.completedFuture(batch.getOverallComment());
+        } else {
+            overallComment = supplyAsync(() -> generateOverallComment(items, listener));
+        }
+
+        // 누락/검증 실패 항목만 개별 채점 (알 수 없는 타입은 기본값 처리)
+        List<Integer> retryIndexes = new ArrayList<>();
+        for (int i = 0; i < answers.length; i++) {
+            if (answers[i] == null) {
+                retryIndexes.add(i);
+            }
+        }
+        if (!retryIndexes.isEmpty()) {
+            log.info("일괄 채점 검증 실패 {}건 개별 재채점", retryIndexes.size());
+            List<AnswerScore> retried = scoreAll(retryIndexes.stream().map(items::get).toList(),
+                    (index, score) -> listener.onScored(retryIndexes.get(index), score));
+            for (int i = 0; i < retryIndexes.size(); i++) {
+                answers[retryIndexes.get(i)] = retried.get(i);
+            }
+        }
+
+        return new SubmissionScores(List.of(answers), overallComment.join());
+    }
+
+    private AnswerScore toAnswerScore(ScoringItem item, TechnicalFeedbackResponse feedback) {
+        // 기술 면접도 포인트 지급: 평균 점수 * 10
+        int avgScore = (feedback.getLogicScore() + feedback.getAccuracyScore() + feedback.getClarityScore()) / 3;
+        return new AnswerScore(
+                item.getQuestionId(),
+                feedback.getLogicScore(),
+                feedback.getAccuracyScore(),
+                feedback.getClarityScore(),
+                avgScore * 10,
+                feedback.getFeedback(),
+                feedback.isDegraded()
+        );
+    }
+
+    private AnswerScore toAnswerScore(ScoringItem item, PersonalityFeedbackResponse feedback) {
+        // 인성 면접도 점수 부여: 포인트를 점수로 환산 (포인트 / 10)
+        int score = feedback.getPointsAwarded() / 10;
+        return new AnswerScore(
+                item.getQuestionId(),
+                score,
+                score,
+                score,
+                feedback.getPointsAwarded(),
+                feedback.getFeedback(),
+                feedback.isDegraded()
+        );
+    }
+
+    private String resolveInterviewType(List<ScoringItem> items) {
+        return items.stream()
+                .map(ScoringItem::getInterviewType)
+                .filter(type -> type != null)
+                .findFirst()
+                .orElse("일반");
+    }
+
+    private <T> T withPermits(Semaphore submissionPermits, Supplier<T> task) {
+        try {
+            // 제출 단위 한도를 먼저 잡아야 한 제출이 전역 한도를 독점하지 않음
+            if (submissionPermits != null) {
+                submissionPermits.acquire();
+            }
+            try {
+                globalPermits.acquire();
+                try {
+                    return task.get();
+                } finally {
+                    globalPermits.release();
+                }
+            } finally {
+                if (submissionPermits != null) {
+                    submissionPermits.release();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채점 작업이 중단되었습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
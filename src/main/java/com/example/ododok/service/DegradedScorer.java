@@ -0,0 +1,38 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.PersonalityFeedbackResponse;
+import com.example.ododok.dto.TechnicalFeedbackResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini를 사용할 수 없을 때의 로컬 임시 채점 (즉시 응답)
+ * 답변 길이만 보는 보수적인 점수이며, 재채점 시 실제 점수와의 차이가 정산됨
+ */
+@Component
+public class DegradedScorer {
+
+    static final String NOTICE = "AI 채점이 일시적으로 지연되어 임시 점수가 부여되었습니다. 추후 재채점됩니다.";
+
+    public TechnicalFeedbackResponse scoreTechnical(String question, String answer) {
+        int length = contentLength(answer);
+        int score = length < 20 ? 0 : length < 100 ? 1 : 2;
+        return new TechnicalFeedbackResponse(score, score, score, NOTICE, true);
+    }
+
+    public PersonalityFeedbackResponse scorePersonality(String question, String answer) {
+        boolean relevant = contentLength(answer) >= 30;
+        return new PersonalityFeedbackResponse(relevant, NOTICE, relevant ? 10 : 0, true);
+    }
+
+    public String feedback(String question, String answer) {
+        return "현재 AI 피드백이 지연되어 기본 피드백을 제공합니다. 답변에 구체적인 예시와 근거를 덧붙이면 더 좋습니다.";
+    }
+
+    public String overallComment(String interviewType) {
+        return interviewType + " 면접 종합 코멘트를 일시적으로 생성할 수 없습니다. 답변별 점수를 참고해주세요.";
+    }
+
+    private int contentLength(String answer) {
+        return answer == null ? 0 : answer.replaceAll("\\s+", "").length();
+    }
+}
@@ -2,20 +2,44 @@ package com.example.ododok.service;
 
 import com.example.ododok.dto.FeedbackRequest;
 import com.example.ododok.dto.FeedbackResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class FeedbackService {
 
+    private static final String REQUEST_KEY_PREFIX = "feedback-request";
+
     private final GeminiService geminiService;
 
+    // 재렌더링/재시도로 동시에 들어온 같은 요청은 Gemini 호출 한 번으로 처리
+    private final SingleFlight<String, FeedbackResponse> inFlight;
+
+    public FeedbackService(GeminiService geminiService, MeterRegistry meterRegistry) {
+        this.geminiService = geminiService;
+        Counter coalesced = Counter.builder("feedback.singleflight.coalesced")
+                .description("진행 중인 같은 피드백 요청에 합류한 호출 수")
+                .register(meterRegistry);
+        this.inFlight = new SingleFlight<>(coalesced::increment);
+        Gauge.builder("feedback.singleflight.in-flight", inFlight, SingleFlight::inFlightCount)
+                .description("진행 중인 피드백 생성 요청 수")
+                .register(meterRegistry);
+    }
+
     public FeedbackResponse generateFeedback(FeedbackRequest request) {
         log.info("🧠 피드백 생성 요청 - 질문: {}, 답변: {}", request.getQuestion(), request.getUserAnswer());
 
+        // 질문/답변 모두 공백/대소문자 차이를 무시한 해시로 묶음
+        String key = LlmResponseCache.cacheKey(REQUEST_KEY_PREFIX,
+                LlmResponseCache.normalize(request.getQuestion()), request.getUserAnswer());
+        return inFlight.execute(key, () -> createFeedback(request));
+    }
+
+    private FeedbackResponse createFeedback(FeedbackRequest request) {
         try {
             // ✅ Gemini API를 통해 피드백 생성
             String fullFeedback = geminiService.generateFeedback(
@@ -0,0 +1,136 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.GeminiResilienceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Gemini 호출 서킷 브레이커 (CLOSED → OPEN → HALF_OPEN 시험 호출 → CLOSED)
+ * 최근 호출의 실패율(느린 호출 포함)이 임계치를 넘으면 일정 시간 호출을 차단
+ */
+@Slf4j
+@Component
+public class GeminiCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final GeminiResilienceProperties.CircuitBreaker config;
+    private final boolean[] window;
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private long openUntilNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    public GeminiCircuitBreaker(GeminiResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.config = properties.getCircuitBreaker();
+        this.window = new boolean[config.getSlidingWindowSize()];
+
+        Gauge.builder("gemini.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허용 여부 (OPEN 기간이 지나면 HALF_OPEN으로 전환해 제한된 시험 호출만 허용)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openUntilNanos < 0) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSucceeded >= config.getHalfOpenPermits()) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(Duration elapsed) {
+        if (elapsed.compareTo(config.getSlowCallThreshold()) > 0) {
+            log.warn("Gemini 느린 호출 감지: {}ms", elapsed.toMillis());
+            onFailure();
+            return;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight > 0) {
+                halfOpenInFlight--;
+            }
+            halfOpenSucceeded++;
+            if (halfOpenSucceeded >= config.getHalfOpenPermits()) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openUntilNanos >= 0) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == window.length) {
+            // 가장 오래된 결과를 덮어씀
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (recordedCalls >= config.getMinimumCalls()
+                && failedCalls * 100 >= config.getFailureRateThreshold() * recordedCalls) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        log.warn("Gemini 서킷 상태 변경: {} → {}", state, next);
+        state = next;
+        halfOpenInFlight = 0;
+        halfOpenSucceeded = 0;
+
+        if (next == State.OPEN) {
+            openUntilNanos = System.nanoTime() + config.getOpenDuration().toNanos();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.GeminiResilienceProperties;
+import com.example.ododok.config.HttpClientProperties;
+import com.example.ododok.exception.GeminiUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Gemini generateContent 호출 (공용 HTTP 클라이언트 사용)
+ */
+@Slf4j
+@Component
+public class GeminiClient {
+
+    private final RestTemplate restTemplate;
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final ObjectMapper objectMapper;
+    private final GeminiCircuitBreaker circuitBreaker;
+    private final GeminiRateLimiter rateLimiter;
+    private final GeminiHedgePolicy hedgePolicy;
+    private final GeminiModelRouter modelRouter;
+    private final GeminiUsageMetrics usageMetrics;
+    private final Semaphore bulkhead;
+    private final long bulkheadMaxWaitMs;
+
+    @Value("${gemini.api.key}")
+    private String apiKey;
+
+    // 로컬 대역 서버로 돌릴 때 base-url만 바꿔서 사용
+    @Value("${gemini.api.base-url:https://generativelanguage.googleapis.com/v1beta}")
+    private String baseUrl;
+
+    public GeminiClient(RestTemplate restTemplate,
+                        HttpClient httpClient,
+                        HttpClientProperties httpClientProperties,
+                        ObjectMapper objectMapper,
+                        GeminiCircuitBreaker circuitBreaker,
+                        GeminiRateLimiter rateLimiter,
+                        GeminiHedgePolicy hedgePolicy,
+                        GeminiModelRouter modelRouter,
+                        GeminiUsageMetrics usageMetrics,
+                        GeminiResilienceProperties resilienceProperties) {
+        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
+        this.readTimeout = httpClientProperties.getReadTimeout();
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.hedgePolicy = hedgePolicy;
+        this.modelRouter = modelRouter;
+        this.usageMetrics = usageMetrics;
+        this.bulkhead = new Semaphore(resilienceProperties.getBulkhead().getMaxConcurrentCalls(), true);
+        this.bulkheadMaxWaitMs = resilienceProperties.getBulkhead().getMaxWait().toMillis();
+    }
+
+    /**
+     * 기술 면접 채점 용도로 프롬프트 전송
+     */
+    public String generate(String prompt) {
+        return generate(prompt, GeminiTask.TECHNICAL_SCORING);
+    }
+
+    public String generate(String prompt, GeminiTask task) {
+        return generate(prompt, task, null);
+    }
+
+    /**
+     * 프롬프트 전송 후 첫 번째 후보의 텍스트 반환 (responseSchema가 있으면 해당 스키마의 JSON 텍스트)
+     * 모델은 용도와 현재 대기 호출 수로 결정하고, 호출 한도 우선순위는 용도를 따름
+     * 서킷이 열려 있거나 호출 한도 대기 시간/동시 호출 한도를 넘으면 GeminiUnavailableException
+     */
+    public String generate(String prompt, GeminiTask task, Map<String, Object> responseSchema) {
+        return generateReply(prompt, task, responseSchema).text();
+    }
+
+    /**
+     * generate와 같지만 실제로 응답한 모델도 함께 반환 (과부하로 저가 모델이 응답했는지 구분할 때 사용)
+     */
+    public Reply generateReply(String prompt, GeminiTask task, Map<String, Object> responseSchema) {
+        return call(prompt, task, responseSchema, (model, body, permit) -> hedgePolicy.isEnabled()
+                ? requestHedged(prompt, task, model, body, permit)
+                : holding(permit, () -> timedRequest(model, body)));
+    }
+
+    /**
+     * 과부하 전환이 없을 때 용도별로 사용하는 모델
+     */
+    String primaryModel(GeminiTask task) {
+        return modelRouter.primaryModel(task);
+    }
+
+    /**
+     * streamGenerateContent로 전송하고 텍스트 조각이 도착할 때마다 onChunk 호출, 전체 텍스트 반환
+     * 이미 일부를 전달한 스트림은 중복 요청으로 대체할 수 없으므로 hedging 없이 호출
+     */
+    public String generateStream(String prompt, GeminiTask task, Consumer<String> onChunk) {
+        return call(prompt, task, null,
+                (model, body, permit) -> holding(permit, () -> requestStream(model, body, onChunk))).text();
+    }
+
+    /**
+     * 응답 텍스트와 응답한 모델
+     */
+    public record Reply(String text, String model) {
+    }
+
+    /**
+     * 동시 호출 한도 허가를 받은 뒤 실행할 요청 (허가는 요청이 실제로 끝날 때 transport가 반환)
+     */
+    @FunctionalInterface
+    private interface Transport {
+        GeminiJsonReader.Candidate send(String model, byte[] body, BulkheadPermit permit);
+    }
+
+    /**
+     * 동시 호출 한도 허가 1건 (여러 경로에서 반환을 시도해도 한 번만 반환)
+     */
+    private final class BulkheadPermit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 비동기 요청 (exchange를 취소하면 HttpClient가 연결의 요청 스트림도 중단)
+     */
+    private record InFlight(CompletableFuture<HttpResponse<byte[]>> exchange,
+                            CompletableFuture<GeminiJsonReader.Candidate> result,
+                            long startedAt) {
+
+        void cancel() {
+            exchange.cancel(true);
+        }
+
+        Duration elapsed() {
+            return Duration.ofNanos(System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * 서킷 → 호출 한도 → 모델 선택 → 동시 호출 한도 순으로 통과한 뒤 transport 실행
+     * 응답 지연과 usageMetadata 토큰 수는 용도/모델별로 기록
+     */
+    private Reply call(String prompt, GeminiTask task, Map<String, Object> responseSchema, Transport transport) {
+        // 차단 중이면 호출 한도를 기다리지 않고 바로 대체
+        if (circuitBreaker.getState() == GeminiCircuitBreaker.State.OPEN) {
+            throw new GeminiUnavailableException("Gemini 서킷 차단 중");
+        }
+        rateLimiter.acquire(task.priority(), prompt);
+        String model = modelRouter.route(task, rateLimiter.queueDepth() + bulkhead.getQueueLength());
+        byte[] body = requestBody(prompt, responseSchema);
+
+        BulkheadPermit permit = acquireBulkhead();
+        if (!circuitBreaker.tryAcquirePermission()) {
+            permit.release();
+            throw new GeminiUnavailableException("Gemini 서킷 차단 중");
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            GeminiJsonReader.Candidate candidate = transport.send(model, body, permit);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            circuitBreaker.onSuccess(elapsed);
+            modelRouter.recordResponse(task, model, elapsed);
+            usageMetrics.recordSuccess(task, model, elapsed, candidate.usage());
+            return new Reply(candidate.text(), model);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            usageMetrics.recordFailure(task, model, Duration.ofNanos(System.nanoTime() - startedAt));
+            throw e;
+        }
+    }
+
+    private GeminiJsonReader.Candidate holding(BulkheadPermit permit, Supplier<GeminiJsonReader.Candidate> request) {
+        try {
+            return request.get();
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * 관측된 p95까지 응답이 없으면 중복 요청 1건을 보내 먼저 성공한 응답 사용
+     * 중복 요청은 예산, 동시 호출 한도, 호출 한도가 모두 즉시 허용될 때만 전송
+     * 두 요청 모두 HttpClient.sendAsync로 보내 진 쪽은 바로 취소하고, 각 요청이 끝날 때 자기 허가를 반환
+     * 진 쪽의 지연/사용량은 outcome=hedge_lost로 따로 기록
+     */
+    private GeminiJsonReader.Candidate requestHedged(String prompt, GeminiTask task, String model, byte[] body,
+                                                     BulkheadPermit permit) {
+        Duration delay = hedgePolicy.hedgeDelay();
+        if (delay == null) {
+            return holding(permit, () -> timedRequest(model, body));
+        }
+
+        InFlight primary = sendAsync(model, body, permit);
+        try {
+            return primary.result().get(delay.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // p95 초과, 아래에서 중복 요청 여부 판단
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new GeminiUnavailableException("Gemini 응답 대기 중 중단");
+        }
+
+        if (!hedgePolicy.tryAcquireHedge() || !bulkhead.tryAcquire()) {
+            return await(primary.result());
+        }
+        BulkheadPermit hedgePermit = new BulkheadPermit();
+        if (!rateLimiter.tryAcquire(prompt)) {
+            hedgePermit.release();
+            return await(primary.result());
+        }
+
+        hedgePolicy.onHedgeSent();
+        InFlight hedge = sendAsync(model, body, hedgePermit);
+
+        // 먼저 성공한 쪽을 사용하고, 둘 다 실패하면 원 요청의 예외 전달
+        CompletableFuture<GeminiJsonReader.Candidate> winner = new CompletableFuture<>();
+        AtomicBoolean decided = new AtomicBoolean();
+        AtomicInteger failures = new AtomicInteger();
+        race(task, model, primary, hedge, false, winner, decided, failures);
+        race(task, model, hedge, primary, true, winner, decided, failures);
+        return await(winner);
+    }
+
+    private void race(GeminiTask task, String model, InFlight self, InFlight other, boolean isHedge,
+                      CompletableFuture<GeminiJsonReader.Candidate> winner, AtomicBoolean decided,
+                      AtomicInteger failures) {
+        self.result().whenComplete((candidate, error) -> {
+            if (error == null && decided.compareAndSet(false, true)) {
+                // 취소는 동기로 전파되므로 결과를 넘기기 전에 진 쪽의 허가 반환과 기록이 끝남
+                other.cancel();
+                if (isHedge) {
+                    hedgePolicy.onHedgeWon();
+                }
+                winner.complete(candidate);
+                return;
+            }
+            if (decided.get()) {
+                // 진 쪽 (취소됐으면 사용량 없이 지연만)
+                usageMetrics.recordHedgeLost(task, model, self.elapsed(), candidate != null ? candidate.usage() : null);
+                return;
+            }
+            if (failures.incrementAndGet() == 2) {
+                InFlight primary = isHedge ? other : self;
+                primary.result().whenComplete((ignored, primaryError) -> winner.completeExceptionally(primaryError));
+            }
+        });
+    }
+
+    /**
+     * generateContent를 비동기로 전송 (응답 본문까지 받은 뒤 완료되므로 취소하면 요청 전체가 중단됨)
+     * 요청이 끝나거나 취소되면 permit 반환
+     */
+    private InFlight sendAsync(String model, byte[] body, BulkheadPermit permit) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/models/" + model + ":generateContent"))
+                .timeout(readTimeout)
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .header("x-goog-api-key", apiKey)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> exchange;
+        try {
+            exchange = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+
+        CompletableFuture<GeminiJsonReader.Candidate> result = exchange.thenApply(response -> {
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("Gemini 응답 오류: HTTP " + response.statusCode());
+            }
+            GeminiJsonReader.Candidate candidate = GeminiJsonReader.readCandidate(new ByteArrayInputStream(response.body()));
+            hedgePolicy.recordLatency(Duration.ofNanos(System.nanoTime() - startedAt));
+            return candidate;
+        });
+        result.whenComplete((candidate, error) -> permit.release());
+        return new InFlight(exchange, result, startedAt);
+    }
+
+    private GeminiJsonReader.Candidate timedRequest(String model, byte[] body) {
+        long startedAt = System.nanoTime();
+        GeminiJsonReader.Candidate candidate = request(model, body);
+        hedgePolicy.recordLatency(Duration.ofNanos(System.nanoTime() - startedAt));
+        return candidate;
+    }
+
+    private GeminiJsonReader.Candidate await(CompletableFuture<GeminiJsonReader.Candidate> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    private BulkheadPermit acquireBulkhead() {
+        try {
+            if (!bulkhead.tryAcquire(bulkheadMaxWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new GeminiUnavailableException("Gemini 동시 호출 한도 초과");
+            }
+            return new BulkheadPermit();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeminiUnavailableException("Gemini 호출 대기 중 중단");
+        }
+    }
+
+    /**
+     * 요청 본문은 한 번만 직렬화해 원 요청과 중복 요청이 함께 사용
+     * responseSchema가 있으면 JSON 구조화 출력 요청
+     */
+    private byte[] requestBody(String prompt, Map<String, Object> responseSchema) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("contents", List.of(Map.of("parts", List.of(Map.of("text", prompt)))));
+        if (responseSchema != null) {
+            body.put("generationConfig", Map.of(
+                    "responseMimeType", MediaType.APPLICATION_JSON_VALUE,
+                    "responseSchema", responseSchema));
+        }
+
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Gemini 요청 생성 실패", e);
+        }
+    }
+
+    /**
+     * 응답 본문을 문자열로 받지 않고 스트림에서 바로 후보 텍스트와 사용량만 추출
+     */
+    private GeminiJsonReader.Candidate request(String model, byte[] body) {
+        return restTemplate.execute(
+                baseUrl + "/models/" + model + ":generateContent",
+                HttpMethod.POST,
+                request -> writeRequest(request, body),
+                response -> GeminiJsonReader.readCandidate(response.getBody())
+        );
+    }
+
+    /**
+     * SSE 응답을 줄 단위로 읽어 "data:" 이벤트마다 텍스트 조각 전달
+     * 사용량은 이벤트마다 누적값이므로 마지막 값 사용
+     */
+    private GeminiJsonReader.Candidate requestStream(String model, byte[] body, Consumer<String> onChunk) {
+        return restTemplate.execute(
+                baseUrl + "/models/" + model + ":streamGenerateContent?alt=sse",
+                HttpMethod.POST,
+                request -> writeRequest(request, body),
+                response -> {
+                    StringBuilder text = new StringBuilder();
+                    GeminiJsonReader.Usage usage = null;
+                    BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.startsWith("data:")) {
+                            continue;
+                        }
+                        GeminiJsonReader.Candidate chunk = GeminiJsonReader.readChunk(line.substring(5));
+                        if (chunk.usage() != null) {
+                            usage = chunk.usage();
+                        }
+                        if (chunk.text() != null && !chunk.text().isEmpty()) {
+                            text.append(chunk.text());
+                            onChunk.accept(chunk.text());
+                        }
+                    }
+                    if (text.isEmpty()) {
+                        throw new IllegalStateException("Gemini 스트림 응답에 텍스트가 없습니다.");
+                    }
+                    return new GeminiJsonReader.Candidate(text.toString().trim(), usage);
+                }
+        );
+    }
+
+    private void writeRequest(ClientHttpRequest request, byte[] body) throws IOException {
+        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        request.getHeaders().set("x-goog-api-key", apiKey);
+        request.getBody().write(body);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.GeminiResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Gemini 중복(hedge) 요청 정책
+ * 최근 호출 지연의 백분위(기본 p95)를 넘기면 중복 요청을 보내되,
+ * 호출마다 maxExtraPercent/100건씩 쌓이는 예산 안에서만 허용해 추가 호출 비율을 제한
+ */
+@Component
+public class GeminiHedgePolicy {
+
+    // 예산 단위는 호출 1건의 1/100, 한동안 쌓인 예산으로 한꺼번에 몰리지 않도록 10건분까지만 적립
+    private static final int HEDGE_COST = 100;
+    private static final int MAX_BUDGET = 10 * HEDGE_COST;
+
+    private final GeminiResilienceProperties.Hedge config;
+    private final long[] latencies;
+    private final Counter sent;
+    private final Counter won;
+
+    private int latencyIndex;
+    private int recordedLatencies;
+    private int budget;
+
+    public GeminiHedgePolicy(GeminiResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.config = properties.getHedge();
+        this.latencies = new long[Math.max(config.getSampleSize(), 1)];
+        this.sent = Counter.builder("gemini.hedge.sent").register(meterRegistry);
+        this.won = Counter.builder("gemini.hedge.won").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 성공한 단일 요청의 지연 기록 (중복 요청에서 진 쪽 포함)
+     */
+    public synchronized void recordLatency(Duration elapsed) {
+        latencies[latencyIndex] = elapsed.toNanos();
+        latencyIndex = (latencyIndex + 1) % latencies.length;
+        recordedLatencies = Math.min(recordedLatencies + 1, latencies.length);
+    }
+
+    /**
+     * 원 요청 후 중복 요청까지 기다릴 시간 (표본이 부족하면 null)
+     */
+    public Duration hedgeDelay() {
+        long[] samples;
+        synchronized (this) {
+            budget = Math.min(MAX_BUDGET, budget + config.getMaxExtraPercent());
+            if (recordedLatencies < config.getMinSamples()) {
+                return null;
+            }
+            samples = Arrays.copyOf(latencies, recordedLatencies);
+        }
+
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(config.getPercentile() / 100.0 * samples.length) - 1;
+        Duration percentile = Duration.ofNanos(samples[Math.clamp(index, 0, samples.length - 1)]);
+        return percentile.compareTo(config.getMinDelay()) < 0 ? config.getMinDelay() : percentile;
+    }
+
+    /**
+     * 예산이 남아 있으면 1건 차감 후 중복 요청 허용
+     */
+    public synchronized boolean tryAcquireHedge() {
+        if (budget < HEDGE_COST) {
+            return false;
+        }
+        budget -= HEDGE_COST;
+        return true;
+    }
+
+    public void onHedgeSent() {
+        sent.increment();
+    }
+
+    public void onHedgeWon() {
+        won.increment();
+    }
+}
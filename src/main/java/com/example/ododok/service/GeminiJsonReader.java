@@ -0,0 +1,316 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.ReferenceAnswerResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gemini 응답 스트리밍 파서 (중간 트리 없이 한 번에 읽어 필요한 필드만 추출)
+ */
+final class GeminiJsonReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // 채점 기준 최대 항목 수/항목 길이 (합쳐도 question_rubrics.rubric VARCHAR(4000) 안에 들어가도록)
+    static final int MAX_RUBRIC_ITEMS = 10;
+    static final int MAX_RUBRIC_ITEM_LENGTH = 300;
+
+    private GeminiJsonReader() {
+    }
+
+    /**
+     * 채점 결과 한 건의 필드 (타입별 검증은 GeminiService에서 처리)
+     */
+    record ScoreFields(Integer index, Integer logicScore, Integer accuracyScore, Integer clarityScore,
+                       Boolean relevant, Integer pointsAwarded, String feedback) {
+    }
+
+    record BatchFields(List<ScoreFields> results, String overallComment) {
+    }
+
+    /**
+     * 응답의 usageMetadata 토큰 수 (응답에 없으면 0)
+     */
+    record Usage(int promptTokens, int candidatesTokens, int totalTokens) {
+    }
+
+    /**
+     * 첫 번째 후보 텍스트와 토큰 사용량
+     */
+    record Candidate(String text, Usage usage) {
+    }
+
+    /**
+     * generateContent 응답 본문에서 candidates[0].content.parts[0].text와 usageMetadata 추출
+     */
+    static Candidate readCandidate(InputStream body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            Candidate candidate = readResponse(parser);
+            if (candidate.text() == null) {
+                throw new IllegalStateException("Gemini 응답에 후보 텍스트가 없습니다.");
+            }
+            return new Candidate(candidate.text().trim(), candidate.usage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * streamGenerateContent SSE 이벤트 하나의 텍스트 조각과 사용량
+     * 종료/메타데이터 이벤트면 text가 null, 공백은 보존, 사용량은 이벤트마다 누적값
+     */
+    static Candidate readChunk(String data) {
+        try (JsonParser parser = JSON_FACTORY.createParser(data)) {
+            return readResponse(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 최상위 객체를 끝까지 읽으며 candidates와 usageMetadata만 추출 (usageMetadata는 보통 candidates 뒤에 옴)
+     */
+    private static Candidate readResponse(JsonParser parser) throws IOException {
+        String text = null;
+        Usage usage = null;
+        if (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("candidates".equals(name) && value == JsonToken.START_ARRAY) {
+                    text = readFirstObject(parser, candidate -> readField(candidate, "content",
+                            content -> readField(content, "parts",
+                                    parts -> readFirstObject(parts, part -> readField(part, "text",
+                                            GeminiJsonReader::stringValue)))));
+                } else if ("usageMetadata".equals(name) && value == JsonToken.START_OBJECT) {
+                    usage = readUsage(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new Candidate(text, usage);
+    }
+
+    private static Usage readUsage(JsonParser parser) throws IOException {
+        int promptTokens = 0;
+        int candidatesTokens = 0;
+        int totalTokens = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value != JsonToken.VALUE_NUMBER_INT) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "promptTokenCount" -> promptTokens = parser.getIntValue();
+                case "candidatesTokenCount" -> candidatesTokens = parser.getIntValue();
+                case "totalTokenCount" -> totalTokens = parser.getIntValue();
+                default -> {
+                }
+            }
+        }
+        return new Usage(promptTokens, candidatesTokens, totalTokens);
+    }
+
+    /**
+     * 단일 채점 결과 객체 읽기
+     */
+    static ScoreFields readScore(String text) {
+        try (JsonParser parser = openObject(text)) {
+            return readScoreFields(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 일괄 채점 결과 {"results":[...],"overallComment":"..."} 읽기
+     */
+    static BatchFields readBatch(String text) {
+        try (JsonParser parser = openObject(text)) {
+            List<ScoreFields> results = new ArrayList<>();
+            String overallComment = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("results".equals(name) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (parser.currentToken() == JsonToken.START_OBJECT) {
+                            results.add(readScoreFields(parser));
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if ("overallComment".equals(name) && value == JsonToken.VALUE_STRING) {
+                    overallComment = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new BatchFields(results, overallComment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 모범 답안 {"referenceAnswer":"...","rubric":["...", ...]} 읽기 (채점 기준은 줄 단위로 합침)
+     * 채점 기준은 앞에서부터 MAX_RUBRIC_ITEMS개, 항목마다 MAX_RUBRIC_ITEM_LENGTH자까지만 사용
+     */
+    static ReferenceAnswerResponse readReference(String text) {
+        try (JsonParser parser = openObject(text)) {
+            String referenceAnswer = null;
+            List<String> rubric = new ArrayList<>();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("referenceAnswer".equals(name) && value == JsonToken.VALUE_STRING) {
+                    referenceAnswer = parser.getText().trim();
+                } else if ("rubric".equals(name) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (parser.currentToken() == JsonToken.VALUE_STRING && !parser.getText().isBlank()) {
+                            if (rubric.size() < MAX_RUBRIC_ITEMS) {
+                                String item = parser.getText().trim();
+                                rubric.add("- " + (item.length() > MAX_RUBRIC_ITEM_LENGTH
+                                        ? item.substring(0, MAX_RUBRIC_ITEM_LENGTH)
+                                        : item));
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (referenceAnswer == null || referenceAnswer.isEmpty() || rubric.isEmpty()) {
+                throw new IllegalStateException("Invalid reference answer from Gemini");
+            }
+            return new ReferenceAnswerResponse(referenceAnswer, String.join("\n", rubric));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 응답 텍스트의 첫 '{'부터 파싱 (구조화 출력이 아닌 응답의 마크다운 코드블록/설명문 대비)
+     */
+    private static JsonParser openObject(String text) throws IOException {
+        int start = text == null ? -1 : text.indexOf('{');
+        if (start == -1) {
+            throw new IllegalStateException("Invalid JSON response from Gemini");
+        }
+
+        StringReader reader = new StringReader(text);
+        reader.skip(start);
+        JsonParser parser = JSON_FACTORY.createParser(reader);
+        parser.nextToken();
+        return parser;
+    }
+
+    /**
+     * 현재 START_OBJECT 위치에서 END_OBJECT까지 채점 필드 읽기
+     */
+    private static ScoreFields readScoreFields(JsonParser parser) throws IOException {
+        Integer index = null;
+        Integer logicScore = null;
+        Integer accuracyScore = null;
+        Integer clarityScore = null;
+        Boolean relevant = null;
+        Integer pointsAwarded = null;
+        String feedback = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "index" -> index = intValue(parser, value);
+                case "logicScore" -> logicScore = intValue(parser, value);
+                case "accuracyScore" -> accuracyScore = intValue(parser, value);
+                case "clarityScore" -> clarityScore = intValue(parser, value);
+                case "pointsAwarded" -> pointsAwarded = intValue(parser, value);
+                case "isRelevant" -> relevant = value == JsonToken.VALUE_TRUE ? Boolean.TRUE
+                        : value == JsonToken.VALUE_FALSE ? Boolean.FALSE : null;
+                case "feedback" -> feedback = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                default -> parser.skipChildren();
+            }
+        }
+        return new ScoreFields(index, logicScore, accuracyScore, clarityScore, relevant, pointsAwarded, feedback);
+    }
+
+    private static Integer intValue(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : null;
+    }
+
+    @FunctionalInterface
+    private interface ValueReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * 현재 객체를 END_OBJECT까지 읽으며 name 필드 값만 reader로 읽음 (현재 토큰이 객체가 아니면 건너뜀)
+     */
+    private static <T> T readField(JsonParser parser, String name, ValueReader<T> reader) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        T result = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String current = parser.currentName();
+            parser.nextToken();
+            if (name.equals(current)) {
+                result = reader.read(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 현재 배열을 END_ARRAY까지 읽으며 첫 번째 객체만 reader로 읽음 (현재 토큰이 배열이 아니면 건너뜀)
+     */
+    private static <T> T readFirstObject(JsonParser parser, ValueReader<T> reader) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        T result = null;
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+                result = reader.read(parser);
+            } else {
+                parser.skipChildren();
+            }
+            first = false;
+        }
+        return result;
+    }
+
+    private static String stringValue(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
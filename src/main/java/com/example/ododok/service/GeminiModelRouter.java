@@ -0,0 +1,112 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.GeminiRoutingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 용도별 Gemini 모델 선택
+ * 호출 대기열이 길어지거나 기본 모델 응답이 느려지면 cooldown 동안 설정된 저가/고속 모델로 전환
+ */
+@Slf4j
+@Component
+public class GeminiModelRouter {
+
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final GeminiRoutingProperties properties;
+    private final String defaultModel;
+    private final MeterRegistry meterRegistry;
+
+    // 모델별 지수 이동 평균 지연 (cooldown보다 오래된 값은 부하 판단에 쓰지 않음)
+    private final Map<String, LatencyAverage> latencies = new ConcurrentHashMap<>();
+    private final Map<String, Counter> served = new ConcurrentHashMap<>();
+    private volatile long downshiftUntil;
+    private volatile boolean downshifted;
+
+    public GeminiModelRouter(GeminiRoutingProperties properties,
+                             @Value("${gemini.api.model:gemini-2.5-flash}") String defaultModel,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.defaultModel = defaultModel;
+        this.meterRegistry = meterRegistry;
+        this.downshiftUntil = System.nanoTime();
+
+        Gauge.builder("gemini.routing.downshifted", this, router -> router.isDownshifted() ? 1 : 0)
+                .description("과부하로 저가 모델 전환 중이면 1")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이번 호출에 사용할 모델 (pendingCalls: 호출 한도/동시 호출 한도에서 대기 중인 호출 수)
+     */
+    public String route(GeminiTask task, int pendingCalls) {
+        String primary = primaryModel(task);
+        String cheaper = properties.getDownshiftModels().get(task);
+        if (!properties.getDownshift().isEnabled() || cheaper == null || cheaper.equals(primary)) {
+            return primary;
+        }
+        return isOverloaded(primary, pendingCalls) ? cheaper : primary;
+    }
+
+    /**
+     * 응답한 모델과 지연 기록
+     */
+    public void recordResponse(GeminiTask task, String model, Duration latency) {
+        long now = System.nanoTime();
+        latencies.compute(model, (key, previous) -> previous == null
+                ? new LatencyAverage(latency.toNanos(), now)
+                : new LatencyAverage((long) (EWMA_ALPHA * latency.toNanos() + (1 - EWMA_ALPHA) * previous.nanos()), now));
+
+        served.computeIfAbsent(task + "|" + model, key -> Counter.builder("gemini.routing.served")
+                        .description("용도/모델별 Gemini 응답 수")
+                        .tag("task", task.name().toLowerCase(Locale.ROOT))
+                        .tag("model", model)
+                        .register(meterRegistry))
+                .increment();
+        log.debug("Gemini 응답 모델: {} ({}, {}ms)", model, task, latency.toMillis());
+    }
+
+    String primaryModel(GeminiTask task) {
+        return properties.getModels().getOrDefault(task, defaultModel);
+    }
+
+    boolean isDownshifted() {
+        return downshifted && System.nanoTime() - downshiftUntil < 0;
+    }
+
+    private boolean isOverloaded(String primary, int pendingCalls) {
+        GeminiRoutingProperties.Downshift downshift = properties.getDownshift();
+        long now = System.nanoTime();
+
+        LatencyAverage latency = latencies.get(primary);
+        boolean slow = latency != null
+                && now - latency.updatedAt() < downshift.getCooldown().toNanos()
+                && latency.nanos() >= downshift.getLatencyThreshold().toNanos();
+
+        if (pendingCalls >= downshift.getQueueDepthThreshold() || slow) {
+            if (!isDownshifted()) {
+                log.warn("Gemini 과부하 감지 (대기 {}건, 평균 지연 {}ms) - 저가 모델로 전환",
+                        pendingCalls, latency == null ? 0 : Duration.ofNanos(latency.nanos()).toMillis());
+            }
+            downshiftUntil = now + downshift.getCooldown().toNanos();
+            downshifted = true;
+        } else if (downshifted && now - downshiftUntil >= 0) {
+            downshifted = false;
+            log.info("Gemini 부하 정상화 - 기본 모델로 복귀");
+        }
+        return isDownshifted();
+    }
+
+    private record LatencyAverage(long nanos, long updatedAt) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.GeminiResilienceProperties;
+import com.example.ododok.exception.GeminiUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gemini 호출 송신 속도 제한 (분당 요청 수 + 선택적으로 분당 토큰 수 토큰 버킷)
+ * 대기 요청은 우선순위 → 도착 순으로 처리하고, 최대 대기 시간을 넘기면 GeminiUnavailableException
+ */
+@Slf4j
+@Component
+public class GeminiRateLimiter {
+
+    /**
+     * 호출 우선순위 (앞에 있을수록 먼저 처리)
+     */
+    public enum Priority {
+        INTERACTIVE, SCORING, OVERALL_COMMENT, BACKGROUND
+    }
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final Bucket requests;
+    private final Bucket tokens;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>(
+            Comparator.comparing(Waiter::priority).thenComparingLong(Waiter::sequence));
+    private long sequence;
+
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> waitTimers = new EnumMap<>(Priority.class);
+
+    public GeminiRateLimiter(GeminiResilienceProperties properties, MeterRegistry meterRegistry) {
+        GeminiResilienceProperties.RateLimit config = properties.getRateLimit();
+        this.requests = new Bucket(config.getBurst(), config.getRequestsPerMinute());
+        this.tokens = config.getTokensPerMinute() > 0
+                ? new Bucket(config.getTokensPerMinute(), config.getTokensPerMinute())
+                : null;
+        this.maxWaitNanos = config.getMaxWait().toNanos();
+
+        for (Priority priority : Priority.values()) {
+            String tag = priority.name().toLowerCase();
+            rejected.put(priority, Counter.builder("gemini.ratelimit.rejected")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+            waitTimers.put(priority, Timer.builder("gemini.ratelimit.wait")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+            Gauge.builder("gemini.ratelimit.queued", this, limiter -> limiter.queued(priority))
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 예산이 생길 때까지 대기 후 요청 1건 + 예상 토큰만큼 차감
+     */
+    public void acquire(Priority priority, String prompt) {
+        long estimatedTokens = tokens != null ? Math.min(PromptBudget.estimateTokens(prompt), tokens.capacity) : 0;
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxWaitNanos;
+
+        lock.lock();
+        try {
+            Waiter waiter = new Waiter(priority, sequence++);
+            queue.add(waiter);
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    if (queue.peek() == waiter && tryConsume(now, estimatedTokens)) {
+                        waitTimers.get(priority).record(now - startedAt, TimeUnit.NANOSECONDS);
+                        return;
+                    }
+
+                    long remaining = deadline - now;
+                    if (remaining <= 0) {
+                        rejected.get(priority).increment();
+                        throw new GeminiUnavailableException("Gemini 호출 한도 대기 시간 초과");
+                    }
+
+                    // 맨 앞 요청만 다음 충전 시점까지 자고, 나머지는 순서가 바뀔 때 깨어남
+                    long sleep = queue.peek() == waiter
+                            ? Math.min(remaining, nanosUntilAvailable(now, estimatedTokens))
+                            : remaining;
+                    changed.awaitNanos(Math.max(sleep, 1));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GeminiUnavailableException("Gemini 호출 대기 중 중단");
+            } finally {
+                queue.remove(waiter);
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 없이 바로 쓸 수 있는 예산이 있을 때만 차감 (대기 중인 요청이 있으면 양보)
+     */
+    public boolean tryAcquire(String prompt) {
+        long estimatedTokens = tokens != null ? Math.min(PromptBudget.estimateTokens(prompt), tokens.capacity) : 0;
+
+        lock.lock();
+        try {
+            return queue.isEmpty() && tryConsume(System.nanoTime(), estimatedTokens);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryConsume(long now, long estimatedTokens) {
+        requests.refill(now);
+        if (tokens != null) {
+            tokens.refill(now);
+        }
+        if (requests.available < 1 || (tokens != null && tokens.available < estimatedTokens)) {
+            return false;
+        }
+        requests.available -= 1;
+        if (tokens != null) {
+            tokens.available -= estimatedTokens;
+        }
+        return true;
+    }
+
+    private long nanosUntilAvailable(long now, long estimatedTokens) {
+        long wait = requests.nanosUntil(now, 1);
+        if (tokens != null) {
+            wait = Math.max(wait, tokens.nanosUntil(now, estimatedTokens));
+        }
+        return wait;
+    }
+
+    /**
+     * 호출 한도 대기열 길이 (모델 라우팅의 부하 신호)
+     */
+    int queueDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double queued(Priority priority) {
+        lock.lock();
+        try {
+            return queue.stream().filter(waiter -> waiter.priority() == priority).count();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Waiter(Priority priority, long sequence) {
+    }
+
+    /**
+     * 분당 perMinute만큼 균등하게 충전되는 버킷 (lock 안에서만 접근)
+     */
+    private static final class Bucket {
+        private final long capacity;
+        private final double perNano;
+        private double available;
+        private long refilledAt;
+
+        private Bucket(long capacity, long perMinute) {
+            this.capacity = Math.max(capacity, 1);
+            this.perNano = (double) Math.max(perMinute, 1) / NANOS_PER_MINUTE;
+            this.available = this.capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        private void refill(long now) {
+            available = Math.min(capacity, available + (now - refilledAt) * perNano);
+            refilledAt = now;
+        }
+
+        private long nanosUntil(long now, long amount) {
+            refill(now);
+            double missing = amount - available;
+            return missing <= 0 ? 0 : (long) Math.ceil(missing / perNano);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.ododok.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gemini 구조화 출력(responseSchema) 정의
+ */
+final class GeminiSchemas {
+
+    private static final Map<String, Object> SCORE = Map.of("type", "INTEGER", "minimum", 0, "maximum", 5);
+    private static final Map<String, Object> POINTS = Map.of("type", "INTEGER", "minimum", 0, "maximum", 10);
+    private static final Map<String, Object> STRING = Map.of("type", "STRING");
+    private static final Map<String, Object> BOOLEAN = Map.of("type", "BOOLEAN");
+
+    static final Map<String, Object> TECHNICAL = Map.of(
+            "type", "OBJECT",
+            "properties", Map.of(
+                    "logicScore", SCORE,
+                    "accuracyScore", SCORE,
+                    "clarityScore", SCORE,
+                    "feedback", STRING),
+            "required", List.of("logicScore", "accuracyScore", "clarityScore", "feedback"),
+            "propertyOrdering", List.of("logicScore", "accuracyScore", "clarityScore", "feedback"));
+
+    static final Map<String, Object> PERSONALITY = Map.of(
+            "type", "OBJECT",
+            "properties", Map.of(
+                    "isRelevant", BOOLEAN,
+                    "pointsAwarded", POINTS,
+                    "feedback", STRING),
+            "required", List.of("isRelevant", "pointsAwarded", "feedback"),
+            "propertyOrdering", List.of("isRelevant", "pointsAwarded", "feedback"));
+
+    // 기술(T)/인성(P) 항목이 섞이므로 타입별 필드는 선택, 항목별 검증은 GeminiService에서 처리
+    static final Map<String, Object> BATCH = Map.of(
+            "type", "OBJECT",
+            "properties", Map.of(
+                    "results", Map.of(
+                            "type", "ARRAY",
+                            "items", Map.of(
+                                    "type", "OBJECT",
+                                    "properties", Map.of(
+                                            "index", Map.of("type", "INTEGER"),
+                                            "logicScore", SCORE,
+                                            "accuracyScore", SCORE,
+                                            "clarityScore", SCORE,
+                                            "isRelevant", BOOLEAN,
+                                            "pointsAwarded", POINTS,
+                                            "feedback", STRING),
+                                    "required", List.of("index", "feedback"))),
+                    "overallComment", STRING),
+            "required", List.of("results", "overallComment"),
+            "propertyOrdering", List.of("results", "overallComment"));
+
+    static final Map<String, Object> REFERENCE = Map.of(
+            "type", "OBJECT",
+            "properties", Map.of(
+                    "referenceAnswer", STRING,
+                    "rubric", Map.of("type", "ARRAY", "items", STRING)),
+            "required", List.of("referenceAnswer", "rubric"),
+            "propertyOrdering", List.of("referenceAnswer", "rubric"));
+
+    private GeminiSchemas() {
+    }
+}
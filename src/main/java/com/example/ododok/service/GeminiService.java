@@ -1,71 +1,95 @@
 package com.example.ododok.service;
 
+import com.example.ododok.dto.BatchScoringResult;
 import com.example.ododok.dto.PersonalityFeedbackResponse;
+import com.example.ododok.dto.ReferenceAnswerResponse;
+import com.example.ododok.dto.ScoringItem;
 import com.example.ododok.dto.TechnicalFeedbackResponse;
+import com.example.ododok.exception.GeminiUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class GeminiService {
 
-    @Value("${gemini.api.key}")
-    private String apiKey;
-
-    private static final String GEMINI_URL =
-            "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash:generateContent";
+    // 프롬프트 템플릿 버전 (템플릿을 바꾸면 올려서 기존 캐시를 무효화)
+    private static final String FEEDBACK_TEMPLATE = "feedback:v1";
+    private static final String TECHNICAL_TEMPLATE = "technical:v1";
+    private static final String PERSONALITY_TEMPLATE = "personality:v1";
+    private static final String TECHNICAL_RUBRIC_TEMPLATE = "technical-rubric:v1";
+
+    // 프롬프트 본문은 기동 시 한 번만 파싱
+    private static final PromptTemplate FEEDBACK_PROMPT = PromptTemplate.compile("""
+            Q: {question}
+            A: {answer}
+
+            2문장으로 피드백 작성(장점/개선점).
+            """);
+    private static final PromptTemplate TECHNICAL_PROMPT = PromptTemplate.compile("""
+            Q: {question}
+            A: {answer}
+
+            논리성/정확성/명확성 각 0-5점 평가. JSON만 반환:
+            {"logicScore":N,"accuracyScore":N,"clarityScore":N,"feedback":"1문장"}
+            """);
+    private static final PromptTemplate TECHNICAL_RUBRIC_PROMPT = PromptTemplate.compile("""
+            Q: {question}
+            채점 기준:
+            {rubric}
+            A: {answer}
+
+            기준에 따라 논리성/정확성/명확성 각 0-5점, 피드백 1문장.
+            """);
+    private static final PromptTemplate PERSONALITY_PROMPT = PromptTemplate.compile("""
+            Q: {question}
+            A: {answer}
+
+            연관성 판단(연관O:10점, 연관X:0점). JSON만 반환:
+            {"isRelevant":true/false,"pointsAwarded":10or0,"feedback":"1문장"}
+            """);
+    private static final PromptTemplate REFERENCE_PROMPT = PromptTemplate.compile("""
+            {interviewType} 면접 질문: {question}
+            {content}
+
+            모범 답안(200자 이내)과 채점 기준 3-5개(각 1문장) 작성.
+            """);
+    private static final PromptTemplate OVERALL_COMMENT_PROMPT = PromptTemplate.compile("""
+            {interviewType} 면접 평가:
+            {summary}
+
+            강점/개선점을 2문장으로.
+            """);
+
+    private final GeminiClient geminiClient;
+    private final LlmResponseCache llmResponseCache;
+    private final DegradedScorer degradedScorer;
+    private final PromptBudget promptBudget;
+    private final MeterRegistry meterRegistry;
 
     public String generateFeedback(String question, String answer) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("x-goog-api-key", apiKey);
-
-        JSONObject body = new JSONObject();
-        JSONArray contents = new JSONArray();
-        JSONArray parts = new JSONArray();
-
-        parts.put(new JSONObject().put("text",
-                String.format("""
-                        Q: %s
-                        A: %s
-
-                        2문장으로 피드백 작성(장점/개선점).
-                        """, question, answer)
-        ));
-
-        contents.put(new JSONObject().put("parts", parts));
-        body.put("contents", contents);
-
-        HttpEntity<String> entity = new HttpEntity<>(body.toString(), headers);
+        String prompt = FEEDBACK_PROMPT.render(question, promptBudget.fitAnswer(answer));
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    GEMINI_URL,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
-
-            JSONObject json = new JSONObject(response.getBody());
-            return json
-                    .getJSONArray("candidates")
-                    .getJSONObject(0)
-                    .getJSONObject("content")
-                    .getJSONArray("parts")
-                    .getJSONObject(0)
-                    .getString("text")
-                    .trim();
+            return llmResponseCache.getOrLoad(FEEDBACK_TEMPLATE, geminiClient.primaryModel(GeminiTask.FEEDBACK),
+                    question, answer, String.class, () -> {
+                        GeminiClient.Reply reply = geminiClient.generateReply(prompt, GeminiTask.FEEDBACK, null);
+                        return new LlmResponseCache.Loaded<>(reply.text(), reply.model());
+                    });
 
         } catch (Exception e) {
-            log.error("Gemini API 호출 중 오류 발생", e);
-            return "Gemini 피드백 생성 실패: " + e.getMessage();
+            logFailure("Gemini API 호출 중 오류 발생", e);
+            return degradedScorer.feedback(question, answer);
         }
     }
 
@@ -81,64 +105,47 @@ public class GeminiService {
      * 기술 면접 답변에 대한 피드백 생성 (논리성, 정확성, 명확성 각 0~5점)
      */
     public TechnicalFeedbackResponse generateTechnicalFeedback(String question, String answer) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("x-goog-api-key", apiKey);
-
-        JSONObject body = new JSONObject();
-        JSONArray contents = new JSONArray();
-        JSONArray parts = new JSONArray();
-
-        parts.put(new JSONObject().put("text",
-                String.format("""
-                        Q: %s
-                        A: %s
+        String prompt = TECHNICAL_PROMPT.render(question, promptBudget.fitAnswer(answer));
 
-                        논리성/정확성/명확성 각 0-5점 평가. JSON만 반환:
-                        {"logicScore":N,"accuracyScore":N,"clarityScore":N,"feedback":"1문장"}
-                        """, question, answer)
-        ));
+        try {
+            return llmResponseCache.getOrLoad(TECHNICAL_TEMPLATE, geminiClient.primaryModel(GeminiTask.TECHNICAL_SCORING),
+                    question, answer, TechnicalFeedbackResponse.class, () -> {
+                        GeminiClient.Reply reply = geminiClient.generateReply(prompt, GeminiTask.TECHNICAL_SCORING, GeminiSchemas.TECHNICAL);
+                        TechnicalFeedbackResponse feedback = toTechnical(GeminiJsonReader.readScore(reply.text()));
+                        if (feedback == null) {
+                            throw new IllegalStateException("Invalid technical scores from Gemini");
+                        }
+                        return new LlmResponseCache.Loaded<>(feedback, reply.model());
+                    });
 
-        contents.put(new JSONObject().put("parts", parts));
-        body.put("contents", contents);
+        } catch (Exception e) {
+            logFailure("기술 면접 피드백 생성 중 오류 발생", e);
+            return degradedScorer.scoreTechnical(question, answer);
+        }
+    }
 
-        HttpEntity<String> entity = new HttpEntity<>(body.toString(), headers);
+    /**
+     * 사전 생성된 채점 기준으로 기술 면접 답변 채점 (기준을 다시 추론하지 않아 프롬프트/응답이 짧음)
+     */
+    public TechnicalFeedbackResponse generateTechnicalFeedback(String question, String answer, String rubric) {
+        String prompt = TECHNICAL_RUBRIC_PROMPT.render(question, rubric, promptBudget.fitAnswer(answer));
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    GEMINI_URL,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
-
-            JSONObject json = new JSONObject(response.getBody());
-            String responseText = json
-                    .getJSONArray("candidates")
-                    .getJSONObject(0)
-                    .getJSONObject("content")
-                    .getJSONArray("parts")
-                    .getJSONObject(0)
-                    .getString("text")
-                    .trim();
-
-            // JSON 추출 (마크다운 코드블록 제거)
-            String jsonText = extractJsonFromResponse(responseText);
-
-            // JSON 파싱
-            JSONObject result = new JSONObject(jsonText);
-            return new TechnicalFeedbackResponse(
-                    result.getInt("logicScore"),
-                    result.getInt("accuracyScore"),
-                    result.getInt("clarityScore"),
-                    result.getString("feedback")
-            );
+            // 채점 기준이 다시 생성되면 이전 기준으로 채점한 결과는 쓰지 않음
+            String template = LlmResponseCache.withContext(TECHNICAL_RUBRIC_TEMPLATE, rubric);
+            return llmResponseCache.getOrLoad(template, geminiClient.primaryModel(GeminiTask.TECHNICAL_SCORING),
+                    question, answer, TechnicalFeedbackResponse.class, () -> {
+                        GeminiClient.Reply reply = geminiClient.generateReply(prompt, GeminiTask.TECHNICAL_SCORING, GeminiSchemas.TECHNICAL);
+                        TechnicalFeedbackResponse feedback = toTechnical(GeminiJsonReader.readScore(reply.text()));
+                        if (feedback == null) {
+                            throw new IllegalStateException("Invalid technical scores from Gemini");
+                        }
+                        return new LlmResponseCache.Loaded<>(feedback, reply.model());
+                    });
 
         } catch (Exception e) {
-            log.error("기술 면접 피드백 생성 중 오류 발생", e);
-            return new TechnicalFeedbackResponse(0, 0, 0, "피드백 생성 실패: " + e.getMessage());
+            logFailure("기술 면접 피드백 생성 중 오류 발생", e);
+            return degradedScorer.scoreTechnical(question, answer);
         }
     }
 
@@ -146,150 +153,174 @@ public class GeminiService {
      * 인성 면접 답변에 대한 피드백 생성 (연관성 분류)
      */
     public PersonalityFeedbackResponse generatePersonalityFeedback(String question, String answer) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("x-goog-api-key", apiKey);
-
-        JSONObject body = new JSONObject();
-        JSONArray contents = new JSONArray();
-        JSONArray parts = new JSONArray();
-
-        parts.put(new JSONObject().put("text",
-                String.format("""
-                        Q: %s
-                        A: %s
-
-                        연관성 판단(연관O:10점, 연관X:0점). JSON만 반환:
-                        {"isRelevant":true/false,"pointsAwarded":10or0,"feedback":"1문장"}
-                        """, question, answer)
-        ));
-
-        contents.put(new JSONObject().put("parts", parts));
-        body.put("contents", contents);
-
-        HttpEntity<String> entity = new HttpEntity<>(body.toString(), headers);
+        String prompt = PERSONALITY_PROMPT.render(question, promptBudget.fitAnswer(answer));
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    GEMINI_URL,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
-
-            JSONObject json = new JSONObject(response.getBody());
-            String responseText = json
-                    .getJSONArray("candidates")
-                    .getJSONObject(0)
-                    .getJSONObject("content")
-                    .getJSONArray("parts")
-                    .getJSONObject(0)
-                    .getString("text")
-                    .trim();
-
-            // JSON 추출 (마크다운 코드블록 제거)
-            String jsonText = extractJsonFromResponse(responseText);
-
-            // JSON 파싱
-            JSONObject result = new JSONObject(jsonText);
-            return new PersonalityFeedbackResponse(
-                    result.getBoolean("isRelevant"),
-                    result.getString("feedback"),
-                    result.getInt("pointsAwarded")
-            );
+            return llmResponseCache.getOrLoad(PERSONALITY_TEMPLATE, geminiClient.primaryModel(GeminiTask.RELEVANCE),
+                    question, answer, PersonalityFeedbackResponse.class, () -> {
+                        GeminiClient.Reply reply = geminiClient.generateReply(prompt, GeminiTask.RELEVANCE, GeminiSchemas.PERSONALITY);
+                        PersonalityFeedbackResponse feedback = toPersonality(GeminiJsonReader.readScore(reply.text()));
+                        if (feedback == null) {
+                            throw new IllegalStateException("Invalid personality scores from Gemini");
+                        }
+                        return new LlmResponseCache.Loaded<>(feedback, reply.model());
+                    });
 
         } catch (Exception e) {
-            log.error("인성 면접 피드백 생성 중 오류 발생", e);
-            return new PersonalityFeedbackResponse(false, "피드백 생성 실패: " + e.getMessage(), 0);
+            logFailure("인성 면접 피드백 생성 중 오류 발생", e);
+            return degradedScorer.scorePersonality(question, answer);
         }
     }
 
     /**
-     * Gemini 응답에서 JSON 추출 (마크다운 코드블록 제거)
+     * 제출의 모든 Q/A를 하나의 프롬프트로 일괄 채점 (답변별 점수 + 종합 코멘트)
+     * 호출 자체가 실패하면 예외를 그대로 던지고, 검증에 실패한 항목만 null로 반환
      */
-    private String extractJsonFromResponse(String responseText) {
-        if (responseText == null || responseText.isEmpty()) {
-            throw new RuntimeException("Empty response from Gemini");
+    public BatchScoringResult generateBatchScores(String interviewType, List<ScoringItem> items) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append(interviewType).append(" 면접 답변 ").append(items.size()).append("개 채점.\n")
+                .append("T: 논리성/정확성/명확성 각 0-5점, P: 연관성 판단(연관O:10점, 연관X:0점). JSON만 반환:\n")
+                .append("{\"results\":[{\"index\":0,\"logicScore\":N,\"accuracyScore\":N,\"clarityScore\":N,\"feedback\":\"1문장\"},")
+                .append("{\"index\":1,\"isRelevant\":true/false,\"pointsAwarded\":10or0,\"feedback\":\"1문장\"}],")
+                .append("\"overallComment\":\"강점/개선점 2문장\"}\n\n");
+
+        for (int i = 0; i < items.size(); i++) {
+            ScoringItem item = items.get(i);
+            prompt.append('[').append(i).append("] ").append(item.isTechnical() ? "T" : "P").append('\n')
+                    .append("Q: ").append(item.getQuestion()).append('\n')
+                    .append("A: ").append(promptBudget.fitAnswer(item.getAnswer())).append("\n\n");
         }
 
-        // 마크다운 코드블록 제거 (```json ... ``` 또는 ``` ... ```)
-        String cleaned = responseText.trim();
-        if (cleaned.startsWith("```")) {
-            // 첫 번째 줄 제거 (```json 또는 ```)
-            int firstNewline = cleaned.indexOf('\n');
-            if (firstNewline != -1) {
-                cleaned = cleaned.substring(firstNewline + 1);
+        List<BatchScoringResult.Item> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        String responseText = geminiClient.generate(prompt.toString(), GeminiTask.BATCH_SCORING, GeminiSchemas.BATCH);
+        GeminiJsonReader.BatchFields batch = GeminiJsonReader.readBatch(responseText);
+
+        for (GeminiJsonReader.ScoreFields entry : batch.results()) {
+            Integer index = entry.index();
+            if (index == null || index < 0 || index >= items.size() || results.get(index) != null) {
+                continue;
             }
-            // 마지막 ``` 제거
-            if (cleaned.endsWith("```")) {
-                cleaned = cleaned.substring(0, cleaned.length() - 3);
+
+            // 검증 실패 항목은 null로 남겨 개별 호출로 재채점
+            if (items.get(index).isTechnical()) {
+                TechnicalFeedbackResponse technical = toTechnical(entry);
+                if (technical != null) {
+                    results.set(index, new BatchScoringResult.Item(technical, null));
+                }
+            } else {
+                PersonalityFeedbackResponse personality = toPersonality(entry);
+                if (personality != null) {
+                    results.set(index, new BatchScoringResult.Item(null, personality));
+                }
             }
-            cleaned = cleaned.trim();
         }
 
-        // JSON 시작/끝 찾기
-        int jsonStart = cleaned.indexOf('{');
-        int jsonEnd = cleaned.lastIndexOf('}');
+        String overallComment = batch.overallComment() == null ? "" : batch.overallComment().trim();
+        return new BatchScoringResult(results, overallComment.isEmpty() ? null : overallComment);
+    }
 
-        if (jsonStart == -1 || jsonEnd == -1 || jsonStart > jsonEnd) {
-            log.error("JSON을 찾을 수 없음. 응답 내용: {}", responseText);
-            throw new RuntimeException("Invalid JSON response from Gemini");
+    private TechnicalFeedbackResponse toTechnical(GeminiJsonReader.ScoreFields fields) {
+        if (!isValidScore(fields.logicScore()) || !isValidScore(fields.accuracyScore())
+                || !isValidScore(fields.clarityScore()) || fields.feedback() == null) {
+            return null;
         }
+        return new TechnicalFeedbackResponse(fields.logicScore(), fields.accuracyScore(), fields.clarityScore(), fields.feedback());
+    }
 
-        return cleaned.substring(jsonStart, jsonEnd + 1);
+    private PersonalityFeedbackResponse toPersonality(GeminiJsonReader.ScoreFields fields) {
+        Integer points = fields.pointsAwarded();
+        if (fields.relevant() == null || points == null || (points != 0 && points != 10) || fields.feedback() == null) {
+            return null;
+        }
+        return new PersonalityFeedbackResponse(fields.relevant(), fields.feedback(), points);
+    }
+
+    private boolean isValidScore(Integer score) {
+        return score != null && score >= 0 && score <= 5;
     }
 
     /**
-     * 모든 답변 완료 후 종합 코멘트 생성
+     * 문제 은행용 모범 답안 + 채점 기준 생성 (백그라운드 작업 전용, 실패 시 예외)
      */
-    public String generateOverallComment(String interviewType, String allAnswersSummary) {
-        RestTemplate restTemplate = new RestTemplate();
+    public ReferenceAnswerResponse generateReferenceAnswer(String interviewType, String question, String content) {
+        String prompt = REFERENCE_PROMPT.render(interviewType, question, content);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("x-goog-api-key", apiKey);
+        String responseText = geminiClient.generate(prompt, GeminiTask.REFERENCE_ANSWER, GeminiSchemas.REFERENCE);
+        return GeminiJsonReader.readReference(responseText);
+    }
 
-        JSONObject body = new JSONObject();
-        JSONArray contents = new JSONArray();
-        JSONArray parts = new JSONArray();
+    /**
+     * 서킷 차단/동시 호출 한도 초과는 예상된 상황이므로 스택트레이스 없이 기록
+     */
+    private void logFailure(String message, Exception e) {
+        if (e instanceof GeminiUnavailableException) {
+            log.warn("{} - 로컬 임시 채점으로 대체: {}", message, e.getMessage());
+        } else {
+            log.error(message, e);
+        }
+    }
 
-        parts.put(new JSONObject().put("text",
-                String.format("""
-                        %s 면접 평가:
-                        %s
+    /**
+     * 모든 답변 완료 후 종합 코멘트 생성
+     */
+    public String generateOverallComment(String interviewType, String allAnswersSummary) {
+        String prompt = OVERALL_COMMENT_PROMPT.render(interviewType, allAnswersSummary);
 
-                        강점/개선점을 2문장으로.
-                        """, interviewType, allAnswersSummary)
-        ));
+        try {
+            return geminiClient.generate(prompt, GeminiTask.OVERALL_COMMENT);
 
-        contents.put(new JSONObject().put("parts", parts));
-        body.put("contents", contents);
+        } catch (Exception e) {
+            logFailure("종합 코멘트 생성 중 오류 발생", e);
+            return degradedScorer.overallComment(interviewType);
+        }
+    }
 
-        HttpEntity<String> entity = new HttpEntity<>(body.toString(), headers);
+    /**
+     * 종합 코멘트를 스트리밍으로 생성 (텍스트 조각이 도착하는 즉시 onChunk로 전달)
+     * 첫 조각까지 걸린 시간(호출 한도 대기 포함)을 TTFB로 기록
+     * 첫 조각 전에 실패하면 임시 코멘트를 한 조각으로 전달, 도중에 끊기면 받은 부분까지 사용
+     * 조각 없이 끝난 스트림은 source=empty로 기록
+     */
+    public String streamOverallComment(String interviewType, String allAnswersSummary, Consumer<String> onChunk) {
+        String prompt = OVERALL_COMMENT_PROMPT.render(interviewType, allAnswersSummary);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AtomicBoolean recorded = new AtomicBoolean();
+        StringBuilder received = new StringBuilder();
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    GEMINI_URL,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
-
-            JSONObject json = new JSONObject(response.getBody());
-            return json
-                    .getJSONArray("candidates")
-                    .getJSONObject(0)
-                    .getJSONObject("content")
-                    .getJSONArray("parts")
-                    .getJSONObject(0)
-                    .getString("text")
-                    .trim();
+            return geminiClient.generateStream(prompt, GeminiTask.OVERALL_COMMENT, chunk -> {
+                if (recorded.compareAndSet(false, true)) {
+                    sample.stop(ttfbTimer("gemini"));
+                }
+                received.append(chunk);
+                onChunk.accept(chunk);
+            });
 
         } catch (Exception e) {
-            log.error("종합 코멘트 생성 중 오류 발생", e);
-            return "종합 코멘트 생성 실패: " + e.getMessage();
+            if (!received.isEmpty()) {
+                log.warn("종합 코멘트 스트림 중단 - 받은 부분까지 사용: {}", e.getMessage());
+                return received.toString().trim();
+            }
+            logFailure("종합 코멘트 스트리밍 중 오류 발생", e);
+            String fallback = degradedScorer.overallComment(interviewType);
+            if (recorded.compareAndSet(false, true)) {
+                sample.stop(ttfbTimer("degraded"));
+            }
+            onChunk.accept(fallback);
+            return fallback;
+
+        } finally {
+            if (recorded.compareAndSet(false, true)) {
+                sample.stop(ttfbTimer("empty"));
+            }
         }
     }
+
+    private Timer ttfbTimer(String source) {
+        return Timer.builder("scoring.overall_comment.ttfb")
+                .description("종합 코멘트 첫 조각까지 걸린 시간")
+                .tag("source", source)
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+    }
 }
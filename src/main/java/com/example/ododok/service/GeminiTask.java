@@ -0,0 +1,23 @@
+package com.example.ododok.service;
+
+/**
+ * Gemini 호출 용도 (모델 라우팅, 호출 한도 우선순위 기준)
+ */
+public enum GeminiTask {
+    FEEDBACK(GeminiRateLimiter.Priority.INTERACTIVE),
+    RELEVANCE(GeminiRateLimiter.Priority.SCORING),
+    TECHNICAL_SCORING(GeminiRateLimiter.Priority.SCORING),
+    BATCH_SCORING(GeminiRateLimiter.Priority.SCORING),
+    OVERALL_COMMENT(GeminiRateLimiter.Priority.OVERALL_COMMENT),
+    REFERENCE_ANSWER(GeminiRateLimiter.Priority.BACKGROUND);
+
+    private final GeminiRateLimiter.Priority priority;
+
+    GeminiTask(GeminiRateLimiter.Priority priority) {
+        this.priority = priority;
+    }
+
+    public GeminiRateLimiter.Priority priority() {
+        return priority;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.ododok.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gemini 호출별 지연/토큰 사용량 집계 (용도/모델 태그)
+ * 프롬프트 변경으로 토큰 수나 지연이 늘면 gemini.call.* 지표에서 바로 드러나도록
+ */
+@Slf4j
+@Component
+public class GeminiUsageMetrics {
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_HEDGE_LOST = "hedge_lost";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public GeminiUsageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 성공한 호출의 지연과 usageMetadata 토큰 수 기록 (usage가 없으면 지연만)
+     */
+    public void recordSuccess(GeminiTask task, String model, Duration latency, GeminiJsonReader.Usage usage) {
+        record(meters(task, model, OUTCOME_SUCCESS), task, model, latency, usage);
+    }
+
+    /**
+     * 헤지 경쟁에서 져서 취소된 호출 기록 (취소 전에 응답이 와 있었으면 토큰 수까지)
+     * 진 쪽도 비용이 드는 호출이라 성공 지표와 따로 outcome=hedge_lost로 남김
+     */
+    public void recordHedgeLost(GeminiTask task, String model, Duration latency, GeminiJsonReader.Usage usage) {
+        record(meters(task, model, OUTCOME_HEDGE_LOST), task, model, latency, usage);
+    }
+
+    public void recordFailure(GeminiTask task, String model, Duration latency) {
+        Timer.builder("gemini.call.latency")
+                .description("Gemini 호출 지연 (실패)")
+                .tags("task", taskTag(task), "model", model, "outcome", "failure")
+                .register(meterRegistry)
+                .record(latency);
+    }
+
+    private void record(Meters taskMeters, GeminiTask task, String model, Duration latency,
+                        GeminiJsonReader.Usage usage) {
+        taskMeters.latency().record(latency);
+        if (usage == null) {
+            taskMeters.missingUsage().increment();
+            return;
+        }
+
+        taskMeters.promptTokens().record(usage.promptTokens());
+        taskMeters.candidatesTokens().record(usage.candidatesTokens());
+        taskMeters.promptTokenTotal().increment(usage.promptTokens());
+        taskMeters.candidatesTokenTotal().increment(usage.candidatesTokens());
+        log.debug("Gemini 사용량: {} {} - prompt {} / candidates {} / total {} tokens, {}ms", task, model,
+                usage.promptTokens(), usage.candidatesTokens(), usage.totalTokens(), latency.toMillis());
+    }
+
+    private Meters meters(GeminiTask task, String model, String outcome) {
+        return meters.computeIfAbsent(task + "|" + model + "|" + outcome, key -> {
+            String taskTag = taskTag(task);
+            return new Meters(
+                    Timer.builder("gemini.call.latency")
+                            .description("Gemini 호출 지연 (" + outcome + ")")
+                            .tags("task", taskTag, "model", model, "outcome", outcome)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry),
+                    tokenSummary(taskTag, model, outcome, "prompt"),
+                    tokenSummary(taskTag, model, outcome, "candidates"),
+                    tokenCounter(taskTag, model, outcome, "prompt"),
+                    tokenCounter(taskTag, model, outcome, "candidates"),
+                    Counter.builder("gemini.call.usage.missing")
+                            .description("usageMetadata 없이 응답한 Gemini 호출 수")
+                            .tags("task", taskTag, "model", model, "outcome", outcome)
+                            .register(meterRegistry));
+        });
+    }
+
+    private static String taskTag(GeminiTask task) {
+        return task.name().toLowerCase(Locale.ROOT);
+    }
+
+    private DistributionSummary tokenSummary(String task, String model, String outcome, String type) {
+        return DistributionSummary.builder("gemini.call.tokens")
+                .description("Gemini 호출 1건의 토큰 수")
+                .baseUnit("tokens")
+                .tags("task", task, "model", model, "outcome", outcome, "type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter tokenCounter(String task, String model, String outcome, String type) {
+        return Counter.builder("gemini.tokens.used")
+                .description("Gemini 누적 토큰 사용량")
+                .baseUnit("tokens")
+                .tags("task", task, "model", model, "outcome", outcome, "type", type)
+                .register(meterRegistry);
+    }
+
+    private record Meters(Timer latency, DistributionSummary promptTokens,
+                          DistributionSummary candidatesTokens, Counter promptTokenTotal,
+                          Counter candidatesTokenTotal, Counter missingUsage) {
+    }
+}
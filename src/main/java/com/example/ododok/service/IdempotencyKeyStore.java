@@ -0,0 +1,76 @@
+package com.example.ododok.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 공용 저장소 (Postgres, idempotency.persistent.enabled=true 일 때만 사용)
+ * 여러 노드에서 같은 키가 동시에 들어와도 한 노드만 선점해 실행
+ * 테이블 스키마는 IdempotencyRecord 엔티티 기준
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "idempotency.persistent.enabled", havingValue = "true")
+public class IdempotencyKeyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 키가 없거나 만료됐으면 처리 중 상태로 선점 (pendingUntil까지 완료하지 못하면 다른 노드가 다시 선점 가능)
+     */
+    public boolean tryClaim(String storeKey, String fingerprint, Instant pendingUntil) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int updated = jdbcTemplate.update("""
+                INSERT INTO idempotency_keys (store_key, fingerprint, payload, expires_at) VALUES (?, ?, NULL, ?)
+                ON CONFLICT (store_key) DO UPDATE
+                SET fingerprint = EXCLUDED.fingerprint, payload = NULL, expires_at = EXCLUDED.expires_at
+                WHERE idempotency_keys.expires_at <= ?
+                """, storeKey, fingerprint, Timestamp.from(pendingUntil), now);
+        return updated == 1;
+    }
+
+    public Optional<StoredKey> find(String storeKey) {
+        List<StoredKey> rows = jdbcTemplate.query(
+                "SELECT fingerprint, payload FROM idempotency_keys WHERE store_key = ? AND expires_at > ?",
+                (rs, rowNum) -> new StoredKey(rs.getString("fingerprint"), rs.getString("payload")),
+                storeKey, Timestamp.from(Instant.now()));
+        return rows.stream().findFirst();
+    }
+
+    public void complete(String storeKey, String payload, Instant expiresAt) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET payload = ?, expires_at = ? WHERE store_key = ?",
+                payload, Timestamp.from(expiresAt), storeKey);
+    }
+
+    /**
+     * 실패한 요청의 선점 해제 (다시 시도할 수 있도록)
+     */
+    public void release(String storeKey) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE store_key = ? AND payload IS NULL", storeKey);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.persistent.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM idempotency_keys WHERE expires_at <= ?", Timestamp.from(Instant.now()));
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key {}건 삭제", deleted);
+        }
+    }
+
+    /**
+     * payload가 null이면 다른 노드에서 처리 중
+     */
+    public record StoredKey(String fingerprint, String payload) {
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.ododok.service;
+
+import com.example.ododok.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 처리 (요청 지문 + 응답을 크기/TTL 제한 LRU에 보관)
+ * 같은 키로 재시도하면 LLM 호출/포인트 지급 없이 저장된 응답을 반환하고,
+ * 처리 중인 요청이면 wait-timeout까지 그 결과를 기다림. 실패한 요청은 저장하지 않아 다시 시도할 수 있음
+ * 인메모리 LRU는 노드별이라, 여러 노드로 운영하면 idempotency.persistent.enabled=true로
+ * IdempotencyKeyStore(Postgres)에서 키를 선점해 다른 노드로 간 재시도도 한 번만 실행되도록 함
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final ObjectMapper objectMapper;
+    private final Optional<IdempotencyKeyStore> sharedStore;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration claimTimeout;
+    private final Map<String, Entry> entries;
+    private final Counter replayed;
+
+    public IdempotencyStore(ObjectMapper objectMapper,
+                            Optional<IdempotencyKeyStore> sharedStore,
+                            @Value("${idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${idempotency.ttl-minutes:1440}") long ttlMinutes,
+                            @Value("${idempotency.wait-timeout-ms:30000}") long waitTimeoutMs,
+                            @Value("${idempotency.persistent.claim-timeout-ms:120000}") long claimTimeoutMs,
+                            MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.sharedStore = sharedStore;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMs);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.replayed = Counter.builder("idempotency.replayed")
+                .description("Idempotency-Key 재시도로 저장된 응답을 반환한 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키가 없으면 action 그대로 실행
+     * scope: 엔드포인트 + 사용자 (다른 사용자/엔드포인트의 같은 키와 섞이지 않도록)
+     * type: 다른 노드가 저장한 응답을 읽을 때 사용할 응답 타입
+     */
+    public <T> T execute(String scope, String key, Object request, Class<T> type, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException("Idempotency-Key는 255자 이하여야 합니다.", "INVALID_IDEMPOTENCY_KEY");
+        }
+
+        String storeKey = scope + "|" + key;
+        byte[] fingerprint = fingerprint(request);
+        Entry created = new Entry(fingerprint, new CompletableFuture<>(), Instant.now().plus(ttl));
+
+        Entry existing;
+        synchronized (this) {
+            existing = entries.get(storeKey);
+            if (existing != null && existing.expiresAt().isBefore(Instant.now())) {
+                entries.remove(storeKey);
+                existing = null;
+            }
+            if (existing == null) {
+                entries.put(storeKey, created);
+            }
+        }
+
+        if (existing != null) {
+            if (!Arrays.equals(existing.fingerprint(), fingerprint)) {
+                throw keyReused();
+            }
+            replayed.increment();
+            log.info("Idempotency-Key 재시도 - 저장된 응답 반환 ({})", scope);
+            return type.cast(await(existing.response()));
+        }
+
+        try {
+            T response = sharedStore.isPresent()
+                    ? runShared(sharedStore.get(), storeKey, fingerprint, type, action)
+                    : action.get();
+            created.response().complete(response);
+            return response;
+        } catch (Throwable e) {
+            // Error까지 포함해 정리해야 기다리던 요청이 매달리지 않고 같은 키로 다시 시도할 수 있음
+            synchronized (this) {
+                entries.remove(storeKey, created);
+            }
+            created.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 공용 저장소에서 키를 선점한 노드만 실행하고, 나머지는 저장된 응답이 생길 때까지 대기
+     */
+    private <T> T runShared(IdempotencyKeyStore store, String storeKey, byte[] fingerprint,
+                            Class<T> type, Supplier<T> action) {
+        String sharedKey = HexFormat.of().formatHex(sha256(storeKey.getBytes(StandardCharsets.UTF_8)));
+        String print = HexFormat.of().formatHex(fingerprint);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (!store.tryClaim(sharedKey, print, Instant.now().plus(claimTimeout))) {
+            Optional<IdempotencyKeyStore.StoredKey> stored = store.find(sharedKey);
+            if (stored.isPresent()) {
+                if (!stored.get().fingerprint().equals(print)) {
+                    throw keyReused();
+                }
+                if (stored.get().payload() != null) {
+                    replayed.increment();
+                    log.info("Idempotency-Key 재시도 - 다른 노드에 저장된 응답 반환");
+                    return readPayload(stored.get().payload(), type);
+                }
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw inProgress();
+            }
+            sleep();
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (Throwable e) {
+            store.release(sharedKey);
+            throw e;
+        }
+        try {
+            store.complete(sharedKey, objectMapper.writeValueAsString(response), Instant.now().plus(ttl));
+        } catch (Exception e) {
+            // 이미 처리된 요청을 실패로 돌리지 않음 (선점은 claim-timeout 후 풀림)
+            log.warn("Idempotency-Key 응답 저장 실패: {}", e.getMessage());
+        }
+        return response;
+    }
+
+    private Object await(CompletableFuture<Object> response) {
+        try {
+            return response.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw inProgress();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private <T> T readPayload(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답 복원 실패", e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private static BusinessException keyReused() {
+        return new BusinessException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.", "IDEMPOTENCY_KEY_REUSED");
+    }
+
+    private static BusinessException inProgress() {
+        return new BusinessException("같은 Idempotency-Key 요청을 아직 처리 중입니다. 잠시 후 다시 시도해주세요.",
+                "IDEMPOTENCY_KEY_IN_PROGRESS");
+    }
+
+    private byte[] fingerprint(Object request) {
+        try {
+            return sha256(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청 지문 생성 실패", e);
+        }
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(byte[] fingerprint, CompletableFuture<Object> response, Instant expiresAt) {
+    }
+}
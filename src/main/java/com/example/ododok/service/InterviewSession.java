@@ -0,0 +1,189 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.AnswerScore;
+import com.example.ododok.dto.InterviewSessionResponse;
+import com.example.ododok.dto.ProblemSubmissionResponse;
+import com.example.ododok.dto.ScoringItem;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 모의 면접 세션 (답변마다 미리 채점한 결과를 최종 제출까지 보관)
+ */
+public class InterviewSession {
+
+    public enum Status {
+        OPEN, SUBMITTING, SUBMITTED
+    }
+
+    public enum AnswerResult {
+        ACCEPTED, CLOSED, LIMIT_REACHED
+    }
+
+    @Getter
+    private final String id;
+    @Getter
+    private final Long userId;
+    private final List<ScoringItem> questions;
+    private final ScoringItem[] answers;
+    private final int[] answerCounts;
+    private final List<CompletableFuture<AnswerScore>> scores;
+
+    private Status status = Status.OPEN;
+    private CompletableFuture<String> overallComment;
+    private ProblemSubmissionResponse result;
+    private Instant lastAccessedAt = Instant.now();
+
+    public InterviewSession(String id, Long userId, List<ScoringItem> questions) {
+        this.id = id;
+        this.userId = userId;
+        this.questions = List.copyOf(questions);
+        this.answers = new ScoringItem[questions.size()];
+        this.answerCounts = new int[questions.size()];
+        this.scores = new ArrayList<>(questions.size());
+        questions.forEach(question -> scores.add(null));
+    }
+
+    /**
+     * 세션 문제 순서 (세션에 없는 문제면 -1)
+     */
+    public int indexOf(Long questionId) {
+        for (int i = 0; i < questions.size(); i++) {
+            if (questions.get(i).getQuestionId().equals(questionId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public ScoringItem question(int index) {
+        return questions.get(index);
+    }
+
+    /**
+     * 답변 등록 (같은 문제에 다시 답하면 이전 채점 결과는 버리고 종합 코멘트도 다시 생성)
+     * 한 문제에 maxAnswers번까지만 받음 (답변마다 채점 호출이 새로 나가므로)
+     */
+    public synchronized AnswerResult answer(int index, ScoringItem item, CompletableFuture<AnswerScore> score, int maxAnswers) {
+        if (status != Status.OPEN) {
+            return AnswerResult.CLOSED;
+        }
+        if (answerCounts[index] >= maxAnswers) {
+            return AnswerResult.LIMIT_REACHED;
+        }
+        answers[index] = item;
+        answerCounts[index]++;
+        scores.set(index, score);
+        overallComment = null;
+        touch();
+        return AnswerResult.ACCEPTED;
+    }
+
+    /**
+     * 모든 문제가 채점됐고 종합 코멘트가 아직 없으면 true (호출한 쪽이 생성 시작)
+     */
+    public synchronized boolean shouldStartOverallComment() {
+        if (status != Status.OPEN || overallComment != null) {
+            return false;
+        }
+        return scores.stream().allMatch(score -> score != null && score.isDone() && !score.isCompletedExceptionally());
+    }
+
+    public synchronized void overallCommentStarted(CompletableFuture<String> comment) {
+        this.overallComment = comment;
+    }
+
+    /**
+     * 최종 제출 시작 (이미 제출 중이거나 제출된 세션이면 false)
+     */
+    public synchronized boolean beginSubmit() {
+        if (status != Status.OPEN) {
+            return false;
+        }
+        status = Status.SUBMITTING;
+        touch();
+        return true;
+    }
+
+    public synchronized void submitFailed() {
+        status = Status.OPEN;
+    }
+
+    public synchronized void complete(ProblemSubmissionResponse result) {
+        this.result = result;
+        this.status = Status.SUBMITTED;
+        touch();
+    }
+
+    /**
+     * 답변한 문제만 문제 순서대로
+     */
+    public synchronized List<Integer> answeredIndexes() {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < answers.length; i++) {
+            if (answers[i] != null) {
+                indexes.add(i);
+            }
+        }
+        return indexes;
+    }
+
+    public synchronized ScoringItem answerAt(int index) {
+        return answers[index];
+    }
+
+    public synchronized CompletableFuture<AnswerScore> scoreAt(int index) {
+        return scores.get(index);
+    }
+
+    public synchronized CompletableFuture<String> overallComment() {
+        return overallComment;
+    }
+
+    public synchronized List<ScoringItem> answeredItems() {
+        return answeredIndexes().stream().map(index -> answers[index]).toList();
+    }
+
+    public synchronized boolean isIdleSince(Instant threshold) {
+        return status != Status.SUBMITTING && lastAccessedAt.isBefore(threshold);
+    }
+
+    public synchronized boolean isSubmitting() {
+        return status == Status.SUBMITTING;
+    }
+
+    public synchronized Instant lastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    public synchronized void touch() {
+        lastAccessedAt = Instant.now();
+    }
+
+    public synchronized InterviewSessionResponse toResponse() {
+        List<AnswerScore> scored = new ArrayList<>(answers.length);
+        int answered = 0;
+        int completed = 0;
+        for (int i = 0; i < answers.length; i++) {
+            CompletableFuture<AnswerScore> score = scores.get(i);
+            AnswerScore value = score != null && score.isDone() && !score.isCompletedExceptionally() ? score.join() : null;
+            scored.add(value);
+            answered += answers[i] != null ? 1 : 0;
+            completed += value != null ? 1 : 0;
+        }
+
+        return new InterviewSessionResponse(
+                id,
+                status == Status.SUBMITTED ? Status.SUBMITTED.name() : Status.OPEN.name(),
+                questions.stream().map(ScoringItem::getQuestionId).toList(),
+                answered,
+                completed,
+                scored,
+                result
+        );
+    }
+}
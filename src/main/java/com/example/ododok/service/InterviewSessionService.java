@@ -0,0 +1,228 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.AnswerScore;
+import com.example.ododok.dto.InterviewSessionRequest;
+import com.example.ododok.dto.InterviewSessionResponse;
+import com.example.ododok.dto.ProblemSubmissionRequest;
+import com.example.ododok.dto.ProblemSubmissionResponse;
+import com.example.ododok.dto.ScoringItem;
+import com.example.ododok.dto.SubmissionScores;
+import com.example.ododok.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모의 면접 세션: 답변을 받을 때마다 백그라운드에서 채점해 두고,
+ * 최종 제출은 미리 계산된 점수만 모아 포인트를 지급
+ * 한 사용자가 전체 세션 한도를 차지하지 않도록 사용자별 세션 수도 제한 (넘으면 가장 오래 쓰지 않은 세션을 정리)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewSessionService {
+
+    private final ProblemService problemService;
+    private final AnswerScoringService answerScoringService;
+    private final ScoringAdmissionController admissionController;
+
+    @Value("${scoring.sessions.ttl-minutes:60}")
+    private long sessionTtlMinutes;
+
+    @Value("${scoring.sessions.max-active:10000}")
+    private int maxActiveSessions;
+
+    @Value("${scoring.sessions.max-per-user:3}")
+    private int maxSessionsPerUser;
+
+    @Value("${scoring.sessions.max-answers-per-question:3}")
+    private int maxAnswersPerQuestion;
+
+    private final Map<String, InterviewSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, List<InterviewSession>> sessionsByUser = new ConcurrentHashMap<>();
+
+    public InterviewSessionResponse create(InterviewSessionRequest request, Long userId) {
+        if (sessions.size() >= maxActiveSessions) {
+            throw new BusinessException("진행 중인 면접 세션이 너무 많습니다. 잠시 후 다시 시도해주세요.", "TOO_MANY_SESSIONS");
+        }
+
+        List<ScoringItem> questions = problemService.prepareSession(request.getQuestionIds(), userId);
+        InterviewSession session = new InterviewSession(UUID.randomUUID().toString(), userId, questions);
+        sessionsByUser.compute(userId, (id, owned) -> {
+            List<InterviewSession> userSessions = owned != null ? owned : new ArrayList<>();
+            if (userSessions.size() >= maxSessionsPerUser) {
+                evictOldestSession(userSessions);
+            }
+            userSessions.add(session);
+            return userSessions;
+        });
+        sessions.put(session.getId(), session);
+
+        log.info("Interview session {} started for user {} ({} questions)", session.getId(), userId, questions.size());
+        return session.toResponse();
+    }
+
+    public InterviewSessionResponse get(String sessionId, Long userId) {
+        InterviewSession session = findSession(sessionId, userId);
+        session.touch();
+        return session.toResponse();
+    }
+
+    /**
+     * 답변 등록 후 바로 반환, 채점은 수락 제어를 거쳐 채점 풀에서 진행
+     * 제출된 세션이거나 채점 대기열이 가득 찼으면 Gemini 호출 전에 거절
+     * 모든 문제의 채점이 끝나면 종합 코멘트도 미리 생성
+     */
+    public InterviewSessionResponse submitAnswer(String sessionId, Long userId, ProblemSubmissionRequest.Answer answer) {
+        InterviewSession session = findSession(sessionId, userId);
+        int index = session.indexOf(answer.getQuestionId());
+        if (index == -1) {
+            throw new BusinessException("세션에 없는 문제입니다.", "QUESTION_NOT_FOUND");
+        }
+
+        ScoringItem question = session.question(index);
+        ScoringItem item = new ScoringItem(question.getQuestionId(), question.getInterviewType(), question.getQuestion(),
+                answer.getAnswer(), question.getReferenceAnswer(), question.getRubric());
+
+        admissionController.checkCapacity();
+
+        // 세션 상태를 먼저 확인하고 답변을 등록한 뒤에 채점 시작
+        CompletableFuture<AnswerScore> score = new CompletableFuture<>();
+        switch (session.answer(index, item, score, maxAnswersPerQuestion)) {
+            case CLOSED -> throw new BusinessException("이미 제출된 세션입니다.", "SESSION_ALREADY_SUBMITTED");
+            case LIMIT_REACHED -> throw new BusinessException(
+                    "한 문제에는 " + maxAnswersPerQuestion + "번까지만 답변할 수 있습니다.", "TOO_MANY_ANSWERS");
+            case ACCEPTED -> {
+            }
+        }
+        answerScoringService.supplyAsync(admissionController, () -> answerScoringService.scoreAnswer(item))
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        score.completeExceptionally(error);
+                    } else {
+                        score.complete(result);
+                    }
+                });
+        score.whenComplete((result, error) -> {
+            if (error != null) {
+                log.warn("Session {} answer {} scoring failed: {}", sessionId, answer.getQuestionId(), error.getMessage());
+                return;
+            }
+            startOverallCommentIfReady(session);
+        });
+
+        return session.toResponse();
+    }
+
+    /**
+     * 최종 제출: 미리 계산된 점수와 종합 코멘트를 모아 포인트 지급
+     * 채점이 덜 끝난 답변은 기다리고, 채점에 실패한 답변만 다시 채점
+     */
+    public ProblemSubmissionResponse submit(String sessionId, Long userId) {
+        InterviewSession session = findSession(sessionId, userId);
+        if (!session.beginSubmit()) {
+            throw new BusinessException("이미 제출된 세션입니다.", "SESSION_ALREADY_SUBMITTED");
+        }
+
+        try {
+            List<Integer> answered = session.answeredIndexes();
+            if (answered.isEmpty()) {
+                throw new BusinessException("답안이 비어있을 수 없습니다.", "EMPTY_SESSION");
+            }
+
+            List<ScoringItem> items = new ArrayList<>(answered.size());
+            List<AnswerScore> scores = new ArrayList<>(answered.size());
+            for (int index : answered) {
+                ScoringItem item = session.answerAt(index);
+                items.add(item);
+                scores.add(awaitScore(session.scoreAt(index), item));
+            }
+
+            // 일부 문제만 답했으면 미리 만든 코멘트가 없으므로 지금 생성
+            CompletableFuture<String> comment = session.overallComment();
+            String overallComment = comment != null
+                    ? comment.join()
+                    : answerScoringService.generateOverallComment(items);
+
+            ProblemSubmissionResponse result = problemService.completeSubmission(
+                    userId, items, new SubmissionScores(scores, overallComment));
+            session.complete(result);
+            return result;
+
+        } catch (RuntimeException e) {
+            session.submitFailed();
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scoring.jobs.cleanup-interval-ms:60000}")
+    public void evictIdleSessions() {
+        Instant threshold = Instant.now().minus(Duration.ofMinutes(sessionTtlMinutes));
+        sessions.values().removeIf(session -> {
+            if (!session.isIdleSince(threshold)) {
+                return false;
+            }
+            sessionsByUser.computeIfPresent(session.getUserId(), (id, owned) -> {
+                owned.remove(session);
+                return owned.isEmpty() ? null : owned;
+            });
+            return true;
+        });
+    }
+
+    /**
+     * 사용자 세션 중 가장 오래 쓰지 않은 세션 정리 (제출 중인 세션만 남았으면 새 세션 거절)
+     */
+    private void evictOldestSession(List<InterviewSession> userSessions) {
+        InterviewSession oldest = userSessions.stream()
+                .filter(session -> !session.isSubmitting())
+                .min(Comparator.comparing(InterviewSession::lastAccessedAt))
+                .orElseThrow(() -> new BusinessException(
+                        "진행 중인 면접 세션이 너무 많습니다. 잠시 후 다시 시도해주세요.", "TOO_MANY_SESSIONS"));
+        userSessions.remove(oldest);
+        sessions.remove(oldest.getId());
+        log.info("Interview session {} evicted for user {} (per-user limit {})",
+                oldest.getId(), oldest.getUserId(), maxSessionsPerUser);
+    }
+
+    private void startOverallCommentIfReady(InterviewSession session) {
+        synchronized (session) {
+            if (!session.shouldStartOverallComment()) {
+                return;
+            }
+            List<ScoringItem> items = session.answeredItems();
+            session.overallCommentStarted(answerScoringService.supplyAsync(
+                    () -> answerScoringService.generateOverallComment(items)));
+        }
+    }
+
+    private AnswerScore awaitScore(CompletableFuture<AnswerScore> score, ScoringItem item) {
+        try {
+            return score.join();
+        } catch (RuntimeException e) {
+            log.warn("미리 채점하지 못한 답변 재채점 (question {}): {}", item.getQuestionId(), e.getMessage());
+            return admissionController.admit(() -> answerScoringService.scoreAnswer(item));
+        }
+    }
+
+    private InterviewSession findSession(String sessionId, Long userId) {
+        InterviewSession session = sessions.get(sessionId);
+        // 다른 사용자의 세션은 존재 여부도 노출하지 않음
+        if (session == null || !session.getUserId().equals(userId)) {
+            throw new BusinessException("면접 세션을 찾을 수 없습니다.", "SESSION_NOT_FOUND");
+        }
+        return session;
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.LlmCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * LLM 응답 캐시 (프롬프트 템플릿 버전 + 모델 + 질문 해시 + 정규화된 답변 해시 기준)
+ * 과부하로 저가 모델이 대신 응답한 결과는 기본 모델 자리에 저장하지 않음
+ * 1차: 크기/TTL 제한 인메모리 LRU, 2차: 선택적 Postgres 저장소
+ */
+@Slf4j
+@Component
+public class LlmResponseCache {
+
+    private final LlmCacheProperties properties;
+    private final Optional<LlmResponseCacheStore> store;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Entry> entries;
+    private final Counter memoryHits;
+    private final Counter storeHits;
+    private final Counter misses;
+    private final Counter modelMismatches;
+
+    public LlmResponseCache(LlmCacheProperties properties,
+                            Optional<LlmResponseCacheStore> store,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > properties.getMaxEntries();
+            }
+        };
+        this.memoryHits = Counter.builder("llm.cache.hits").tag("tier", "memory").register(meterRegistry);
+        this.storeHits = Counter.builder("llm.cache.hits").tag("tier", "store").register(meterRegistry);
+        this.misses = Counter.builder("llm.cache.misses").register(meterRegistry);
+        this.modelMismatches = Counter.builder("llm.cache.skipped")
+                .description("요청한 모델과 다른 모델이 응답해 저장하지 않은 결과 수")
+                .tag("reason", "model_mismatch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * model 기준으로 캐시 조회 후 없으면 loader 실행
+     * loader가 예외를 던지거나 다른 모델이 응답했으면 캐시하지 않음
+     */
+    public <T> T getOrLoad(String template, String model, String question, String answer, Class<T> type,
+                           Supplier<Loaded<T>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get().value();
+        }
+
+        String key = cacheKey(template + "@" + model, question, answer);
+
+        T cached = getFromMemory(key, type);
+        if (cached != null) {
+            memoryHits.increment();
+            return cached;
+        }
+
+        cached = getFromStore(key, type);
+        if (cached != null) {
+            storeHits.increment();
+            putInMemory(key, cached);
+            return cached;
+        }
+
+        misses.increment();
+        Loaded<T> loaded = loader.get();
+        T value = loaded.value();
+        if (value == null) {
+            return null;
+        }
+        if (!model.equals(loaded.model())) {
+            modelMismatches.increment();
+            return value;
+        }
+        putInMemory(key, value);
+        putInStore(key, value);
+        return value;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 프롬프트에 함께 들어가는 부가 입력(채점 기준 등)을 템플릿 키에 포함 (내용이 바뀌면 이전 응답을 쓰지 않도록)
+     */
+    public static String withContext(String template, String context) {
+        return template + "#" + sha256(context == null ? "" : context);
+    }
+
+    static String cacheKey(String template, String question, String answer) {
+        return sha256(template + "|" + sha256(question == null ? "" : question) + "|" + sha256(normalize(answer)));
+    }
+
+    /**
+     * 공백/대소문자/유니코드 조합 차이는 같은 답변으로 취급
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return normalized.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private synchronized <T> T getFromMemory(String key, Class<T> type) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt().isBefore(Instant.now())) {
+            entries.remove(key);
+            return null;
+        }
+        return type.isInstance(entry.value()) ? type.cast(entry.value()) : null;
+    }
+
+    private synchronized void putInMemory(String key, Object value) {
+        entries.put(key, new Entry(value, Instant.now().plus(properties.getTtl())));
+    }
+
+    private <T> T getFromStore(String key, Class<T> type) {
+        if (store.isEmpty()) {
+            return null;
+        }
+        try {
+            Optional<String> payload = store.get().find(key);
+            return payload.isPresent() ? objectMapper.readValue(payload.get(), type) : null;
+        } catch (Exception e) {
+            log.warn("LLM 캐시 저장소 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putInStore(String key, Object value) {
+        if (store.isEmpty()) {
+            return;
+        }
+        try {
+            Instant expiresAt = Instant.now().plus(properties.getPersistent().getTtl());
+            store.get().save(key, objectMapper.writeValueAsString(value), expiresAt);
+        } catch (Exception e) {
+            log.warn("LLM 캐시 저장소 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * loader 결과와 실제로 응답한 모델
+     */
+    public record Loaded<T>(T value, String model) {
+    }
+
+    private record Entry(Object value, Instant expiresAt) {
+    }
+}
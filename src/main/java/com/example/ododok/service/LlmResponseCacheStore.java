@@ -0,0 +1,49 @@
+package com.example.ododok.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * LLM 응답 캐시 2차 저장소 (Postgres, llm.cache.persistent.enabled=true 일 때만 사용)
+ * 테이블 스키마는 LlmResponseCacheEntry 엔티티 기준
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "llm.cache.persistent.enabled", havingValue = "true")
+public class LlmResponseCacheStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<String> find(String cacheKey) {
+        List<String> rows = jdbcTemplate.queryForList(
+                "SELECT payload FROM llm_response_cache WHERE cache_key = ? AND expires_at > ?",
+                String.class, cacheKey, Timestamp.from(Instant.now()));
+        return rows.stream().findFirst();
+    }
+
+    public void save(String cacheKey, String payload, Instant expiresAt) {
+        jdbcTemplate.update("""
+                INSERT INTO llm_response_cache (cache_key, payload, expires_at) VALUES (?, ?, ?)
+                ON CONFLICT (cache_key) DO UPDATE SET payload = EXCLUDED.payload, expires_at = EXCLUDED.expires_at
+                """, cacheKey, payload, Timestamp.from(expiresAt));
+    }
+
+    @Scheduled(fixedDelayString = "${llm.cache.persistent.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM llm_response_cache WHERE expires_at <= ?", Timestamp.from(Instant.now()));
+        if (deleted > 0) {
+            log.info("만료된 LLM 캐시 {}건 삭제", deleted);
+        }
+    }
+}
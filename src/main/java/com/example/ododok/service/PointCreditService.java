@@ -0,0 +1,48 @@
+package com.example.ododok.service;
+
+import com.example.ododok.entity.User;
+import com.example.ododok.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointCreditService {
+
+    private final UserRepository userRepository;
+    private final UserRankIndex userRankIndex;
+
+    /**
+     * 포인트 지급 후 현재 랭크 반환 (채점이 끝난 뒤 짧은 트랜잭션으로 실행)
+     */
+    @Transactional
+    public int creditPoints(Long userId, int points) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        int updatedPoints = user.getPoints() + points;
+        user.setPoints(updatedPoints);
+        userRepository.save(user);
+
+        // 랭크 인덱스에서 O(log n)으로 계산하고, 인덱스 반영은 커밋된 뒤에만 (롤백되면 그대로)
+        int rank = userRankIndex.rankOf(userId, updatedPoints);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userRankIndex.update(userId, updatedPoints);
+                }
+            });
+        } else {
+            userRankIndex.update(userId, updatedPoints);
+        }
+
+        log.info("User {} credited {} points (rank {})", userId, points, rank);
+        return rank;
+    }
+}
@@ -1,19 +1,18 @@
 package com.example.ododok.service;
 
+import com.example.ododok.dto.AnswerScore;
 import com.example.ododok.dto.ProblemSubmissionRequest;
 import com.example.ododok.dto.ProblemSubmissionResponse;
 import com.example.ododok.dto.QuestionListResponse;
-import com.example.ododok.dto.TechnicalFeedbackResponse;
-import com.example.ododok.dto.PersonalityFeedbackResponse;
+import com.example.ododok.dto.ScoringItem;
+import com.example.ododok.dto.SubmissionScores;
 import com.example.ododok.entity.Question;
-import com.example.ododok.entity.User;
 import com.example.ododok.repository.QuestionRepository;
 import com.example.ododok.repository.UserRepository;
 import com.example.ododok.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -29,17 +28,64 @@ public class ProblemService {
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
-    private final GeminiService geminiService;
-
-    @Transactional
+    private final AnswerScoringService answerScoringService;
+    private final PointCreditService pointCreditService;
+    private final RescoringService rescoringService;
+    private final QuestionRubricStore questionRubricStore;
+    private final ScoringAdmissionController admissionController;
+
+    /**
+     * 문제 제출 채점
+     * 트랜잭션 없이 채점한 뒤, 포인트/랭크 반영만 짧은 트랜잭션으로 처리
+     * (LLM 호출 동안 DB 커넥션을 점유하지 않음)
+     * 동시 채점 수를 넘으면 대기열에서 차례를 기다리고, 과부하면 바로 거절
+     */
     public ProblemSubmissionResponse submitProblem(ProblemSubmissionRequest request, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        return admissionController.admit(() -> {
+            // 1. 검증 및 조회 (조회마다 커넥션을 바로 반납)
+            List<ScoringItem> items = prepareSubmission(request, userId);
 
+            // 2. 답변별 채점 + 종합 코멘트 (트랜잭션 밖, 결과는 제출 순서대로)
+            SubmissionScores scores = answerScoringService.scoreSubmission(items);
+
+            // 3. 포인트 지급 및 랭크 계산 (짧은 쓰기 트랜잭션)
+            return completeSubmission(userId, items, scores);
+        });
+    }
+
+    /**
+     * 제출 검증 후 채점 대상 목록 생성 (사용자/문제 존재 여부 확인)
+     */
+    public List<ScoringItem> prepareSubmission(ProblemSubmissionRequest request, Long userId) {
         List<Long> questionIds = request.getAnswers().stream()
                 .map(ProblemSubmissionRequest.Answer::getQuestionId)
                 .collect(Collectors.toList());
 
+        Map<Long, ScoringItem> templates = loadScoringTemplates(questionIds, userId);
+
+        return request.getAnswers().stream()
+                .map(answerReq -> {
+                    ScoringItem item = templates.get(answerReq.getQuestionId());
+                    return new ScoringItem(item.getQuestionId(), item.getInterviewType(), item.getQuestion(),
+                            answerReq.getAnswer(), item.getReferenceAnswer(), item.getRubric());
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 면접 세션 문제 검증 후 답변이 비어 있는 채점 대상 목록 생성 (문제 순서 유지)
+     */
+    public List<ScoringItem> prepareSession(List<Long> questionIds, Long userId) {
+        Map<Long, ScoringItem> templates = loadScoringTemplates(questionIds, userId);
+        return questionIds.stream()
+                .map(templates::get)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, ScoringItem> loadScoringTemplates(List<Long> questionIds, Long userId) {
+        userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
         Map<Long, Question> questionMap = questionRepository.findAllById(questionIds).stream()
                 .collect(Collectors.toMap(Question::getId, q -> q));
 
@@ -47,71 +93,47 @@ public class ProblemService {
             throw new RuntimeException("일부 문제를 찾을 수 없습니다.");
         }
 
+        // 사전 생성된 채점 기준이 있으면 프롬프트에 포함
+        Map<Long, String> rubrics = questionRubricStore.findRubrics(questionMap.keySet());
+
+        return questionMap.values().stream()
+                .collect(Collectors.toMap(Question::getId, question -> {
+                    ScoringItem item = ScoringItem.of(question, null);
+                    item.setRubric(rubrics.get(question.getId()));
+                    return item;
+                }));
+    }
+
+    /**
+     * 채점 결과 집계, 포인트 지급 및 응답 생성 (임시 점수 답변은 재채점 대기열에 등록)
+     */
+    public ProblemSubmissionResponse completeSubmission(Long userId, List<ScoringItem> items, SubmissionScores scores) {
+        ProblemSubmissionResponse response = settleSubmission(userId, scores);
+        scheduleRescoring(userId, items, scores);
+        return response;
+    }
+
+    /**
+     * 채점 결과 집계, 포인트 지급 및 응답 생성 (DB 작업만 - 롤백될 수 있는 트랜잭션 안에서 호출)
+     */
+    public ProblemSubmissionResponse settleSubmission(Long userId, SubmissionScores scores) {
         int totalPointsEarned = 0;
         int totalLogicScore = 0;
         int totalAccuracyScore = 0;
         int totalClarityScore = 0;
-        int answerCount = request.getAnswers().size();
-
-        // 각 답변에 대해 면접 타입별로 처리 (저장하지 않고 즉시 채점만)
-        for (ProblemSubmissionRequest.Answer answerReq : request.getAnswers()) {
-            Question question = questionMap.get(answerReq.getQuestionId());
-            String interviewType = question.getTitle();
-
-            // 기술면접: "TECHNICAL" 또는 "기술면접"
-            if ("TECHNICAL".equals(interviewType) || "기술면접".equals(interviewType)) {
-                // 기술 면접: 논리성, 정확성, 명확성 점수 계산
-                TechnicalFeedbackResponse feedback = geminiService.generateTechnicalFeedback(
-                        question.getQuestion(), answerReq.getAnswer());
-
-                // 점수 합산
-                totalLogicScore += feedback.getLogicScore();
-                totalAccuracyScore += feedback.getAccuracyScore();
-                totalClarityScore += feedback.getClarityScore();
-
-                // 기술 면접도 포인트 지급: 평균 점수 * 10
-                int avgScore = (feedback.getLogicScore() + feedback.getAccuracyScore() + feedback.getClarityScore()) / 3;
-                totalPointsEarned += avgScore * 10;
-
-            } else if ("PERSONALITY".equals(interviewType) || "인성면접".equals(interviewType)) {
-                // 인성 면접: 연관성 판단 및 포인트 지급
-                PersonalityFeedbackResponse feedback = geminiService.generatePersonalityFeedback(
-                        question.getQuestion(), answerReq.getAnswer());
-
-                totalPointsEarned += feedback.getPointsAwarded();
-
-                // 인성 면접도 점수 부여: 포인트를 점수로 환산 (포인트 / 10)
-                int score = feedback.getPointsAwarded() / 10;
-                totalLogicScore += score;
-                totalAccuracyScore += score;
-                totalClarityScore += score;
-
-            } else {
-                // 면접 타입이 지정되지 않은 경우 기본값 지급
-                log.warn("Unknown interview type: {}. Awarding default values.", interviewType);
-                totalPointsEarned += 100;
-                totalLogicScore += 10;
-                totalAccuracyScore += 10;
-                totalClarityScore += 10;
-            }
-        }
+        int answerCount = scores.getAnswers().size();
 
-        // 유저 포인트 업데이트 (인성 면접 포인트만)
-        user.setPoints(user.getPoints() + totalPointsEarned);
-        userRepository.save(user);
-
-        // 랭크 재계산
-        List<User> allUsers = userRepository.findAllByOrderByPointsDescUserIdAsc();
-        int rank = 1;
-        for (int i = 0; i < allUsers.size(); i++) {
-            if (allUsers.get(i).getUserId().equals(userId)) {
-                rank = i + 1;
-                break;
-            }
+        for (AnswerScore score : scores.getAnswers()) {
+            totalPointsEarned += score.getPointsEarned();
+            totalLogicScore += score.getLogicScore();
+            totalAccuracyScore += score.getAccuracyScore();
+            totalClarityScore += score.getClarityScore();
         }
 
-        // 종합 코멘트 생성 (모든 답변 완료 시)
-        String overallComment = generateOverallCommentForSubmission(request, questionMap);
+        // 유저 포인트 업데이트 및 랭크 재계산
+        int rank = pointCreditService.creditPoints(userId, totalPointsEarned);
+
+        boolean degraded = scores.getAnswers().stream().anyMatch(AnswerScore::isDegraded);
 
         // 평균 점수 계산
         Integer averageScore = answerCount > 0 ? (totalLogicScore + totalAccuracyScore + totalClarityScore) / (answerCount * 3) : null;
@@ -127,27 +149,18 @@ public class ProblemService {
                 avgClarityScore,
                 totalPointsEarned,
                 rank,
-                overallComment
+                scores.getOverallComment(),
+                degraded
         );
     }
 
-    private String generateOverallCommentForSubmission(ProblemSubmissionRequest request, Map<Long, Question> questionMap) {
-        // 면접 타입 확인
-        String interviewType = questionMap.values().stream()
-                .map(Question::getTitle)
-                .filter(type -> type != null)
-                .findFirst()
-                .orElse("일반");
-
-        // 답변 요약 생성
-        StringBuilder summary = new StringBuilder();
-        request.getAnswers().forEach(ans -> {
-            Question q = questionMap.get(ans.getQuestionId());
-            summary.append("Q: ").append(q.getQuestion()).append("\n");
-            summary.append("A: ").append(ans.getAnswer()).append("\n\n");
-        });
-
-        return geminiService.generateOverallComment(interviewType, summary.toString());
+    /**
+     * 임시 점수로 채점된 답변은 Gemini 복구 후 재채점 (메모리 대기열이라 롤백되지 않으므로 정산이 확정된 뒤 호출)
+     */
+    public void scheduleRescoring(Long userId, List<ScoringItem> items, SubmissionScores scores) {
+        if (scores.getAnswers().stream().anyMatch(AnswerScore::isDegraded)) {
+            rescoringService.enqueueDegraded(userId, items, scores.getAnswers());
+        }
     }
 
     public QuestionListResponse getQuestions(Long categoryId, Long companyId) {
@@ -0,0 +1,135 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.ScoringItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * LLM 프롬프트 길이 예산 (답변 원문을 그대로 넣지 않고 토큰 추정치 기준으로 잘라냄)
+ * 긴 답변은 앞부분(결론/핵심)과 끝부분(정리)을 남기고 가운데를 생략
+ */
+@Slf4j
+@Component
+public class PromptBudget {
+
+    static final String OMISSION = "\n…(중략)…\n";
+
+    // 종합 코멘트용 요약에서 답변 하나에 최소한 남길 토큰
+    private static final int MIN_SUMMARY_ANSWER_TOKENS = 40;
+
+    private final int maxAnswerTokens;
+    private final int maxSummaryTokens;
+    private final Counter truncatedAnswers;
+    private final Counter compactedSummaries;
+
+    public PromptBudget(@Value("${scoring.prompt.max-answer-tokens:800}") int maxAnswerTokens,
+                        @Value("${scoring.prompt.max-summary-tokens:2000}") int maxSummaryTokens,
+                        MeterRegistry meterRegistry) {
+        this.maxAnswerTokens = maxAnswerTokens;
+        this.maxSummaryTokens = maxSummaryTokens;
+        this.truncatedAnswers = Counter.builder("scoring.prompt.truncated")
+                .description("프롬프트 예산 초과로 잘라낸 입력 수")
+                .tag("part", "answer")
+                .register(meterRegistry);
+        this.compactedSummaries = Counter.builder("scoring.prompt.truncated")
+                .description("프롬프트 예산 초과로 잘라낸 입력 수")
+                .tag("part", "summary")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 수 추정 (한글 기준 대략 2자당 1토큰, 분당 토큰 한도와 같은 기준)
+     */
+    static long estimateTokens(String text) {
+        return text == null ? 1 : text.length() / 2 + 1;
+    }
+
+    /**
+     * 채점 프롬프트에 넣을 답변 (예산 이내면 원문 그대로)
+     */
+    public String fitAnswer(String answer) {
+        return fit(answer, maxAnswerTokens, truncatedAnswers);
+    }
+
+    /**
+     * 종합 코멘트용 Q/A 요약 (전체 예산을 답변 수로 나눠 답변마다 잘라냄)
+     */
+    public String summarize(List<ScoringItem> items) {
+        int perAnswer = Math.min(maxAnswerTokens,
+                Math.max(MIN_SUMMARY_ANSWER_TOKENS, maxSummaryTokens / Math.max(1, items.size())));
+
+        boolean compacted = false;
+        StringBuilder summary = new StringBuilder();
+        for (ScoringItem item : items) {
+            String answer = truncate(item.getAnswer(), perAnswer);
+            compacted |= answer != item.getAnswer();
+            summary.append("Q: ").append(item.getQuestion()).append("\n");
+            summary.append("A: ").append(answer).append("\n\n");
+        }
+
+        if (compacted) {
+            compactedSummaries.increment();
+        }
+        return summary.toString();
+    }
+
+    private String fit(String text, int maxTokens, Counter counter) {
+        String fitted = truncate(text, maxTokens);
+        if (fitted != text) {
+            counter.increment();
+            log.debug("프롬프트 예산 초과로 입력 축약: {}자 -> {}자", text.length(), fitted.length());
+        }
+        return fitted;
+    }
+
+    /**
+     * maxTokens 이내로 앞 3/4 + 끝 1/4만 남김 (가능하면 문장 경계에서 자름)
+     * 잘라내지 않았으면 같은 인스턴스를 반환
+     */
+    static String truncate(String text, int maxTokens) {
+        if (text == null || estimateTokens(text) <= maxTokens) {
+            return text;
+        }
+
+        int maxChars = Math.max(0, (maxTokens - 1) * 2 - OMISSION.length());
+        int headLength = sentenceEnd(text, maxChars * 3 / 4);
+        int tailLength = maxChars - headLength;
+        int tailStart = sentenceStart(text, text.length() - tailLength);
+
+        return text.substring(0, headLength).stripTrailing() + OMISSION + text.substring(tailStart).stripLeading();
+    }
+
+    /**
+     * limit 이전의 마지막 문장 끝 (절반 이상 남길 수 없으면 limit 그대로)
+     */
+    private static int sentenceEnd(String text, int limit) {
+        for (int i = limit - 1; i >= limit / 2; i--) {
+            if (isSentenceBoundary(text.charAt(i))) {
+                return i + 1;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * from 이후의 첫 문장 시작 (너무 멀면 from 그대로)
+     */
+    private static int sentenceStart(String text, int from) {
+        int limit = Math.min(text.length(), from + (text.length() - from) / 2);
+        for (int i = from; i < limit; i++) {
+            if (isSentenceBoundary(text.charAt(i))) {
+                return i + 1;
+            }
+        }
+        return from;
+    }
+
+    private static boolean isSentenceBoundary(char c) {
+        return c == '.' || c == '?' || c == '!' || c == '\n';
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.ododok.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 한 번만 파싱해 두는 프롬프트 템플릿 ({name} 자리표시자)
+ * 호출마다 String.format으로 형식 문자열을 다시 해석하지 않고, 고정 조각과 값을 이어 붙이기만 함
+ * JSON 예시의 {"key":...} 처럼 이름이 아닌 중괄호는 그대로 둠
+ */
+final class PromptTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([a-zA-Z]+)}");
+
+    private final String[] literals;
+    private final int[] slots;
+    private final List<String> names;
+    private final int literalLength;
+
+    private PromptTemplate(String[] literals, int[] slots, List<String> names) {
+        this.literals = literals;
+        this.slots = slots;
+        this.names = List.copyOf(names);
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    static PromptTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(last, matcher.start()));
+            String name = matcher.group(1);
+            int slot = names.indexOf(name);
+            if (slot == -1) {
+                slot = names.size();
+                names.add(name);
+            }
+            slots.add(slot);
+            last = matcher.end();
+        }
+        literals.add(template.substring(last));
+
+        return new PromptTemplate(literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(), names);
+    }
+
+    /**
+     * 자리표시자가 처음 등장하는 순서대로 값을 받아 렌더링 (null은 빈 문자열)
+     */
+    String render(String... values) {
+        if (values.length != names.size()) {
+            throw new IllegalArgumentException("템플릿 값 개수가 맞지 않습니다. 필요: " + names + ", 전달: " + values.length);
+        }
+
+        int capacity = literalLength;
+        for (int slot : slots) {
+            capacity += values[slot] == null ? 0 : values[slot].length();
+        }
+
+        StringBuilder prompt = new StringBuilder(capacity);
+        for (int i = 0; i < slots.length; i++) {
+            prompt.append(literals[i]);
+            String value = values[slots[i]];
+            prompt.append(value == null ? "" : value);
+        }
+        return prompt.append(literals[slots.length]).toString();
+    }
+
+    List<String> names() {
+        return names;
+    }
+}
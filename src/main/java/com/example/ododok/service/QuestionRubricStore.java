@@ -0,0 +1,123 @@
+package com.example.ododok.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 문제별 채점 기준(rubric) 및 사전 생성 작업 체크포인트 저장소
+ * 테이블 스키마는 QuestionRubric, BatchCheckpoint 엔티티 기준
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionRubricStore {
+
+    // questions.answer 컬럼 길이
+    static final int MAX_REFERENCE_ANSWER_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 문제 ID별 채점 기준 (없거나 생성에 실패한 문제는 결과에서 제외)
+     */
+    public Map<Long, String> findRubrics(Collection<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        String placeholders = questionIds.stream().map(id -> "?").collect(Collectors.joining(","));
+        Map<Long, String> rubrics = new HashMap<>();
+        jdbcTemplate.query("SELECT question_id, rubric FROM question_rubrics WHERE rubric IS NOT NULL AND question_id IN (" + placeholders + ")",
+                rs -> {
+                    rubrics.put(rs.getLong("question_id"), rs.getString("rubric"));
+                },
+                questionIds.toArray());
+        return rubrics;
+    }
+
+    public void saveRubric(Long questionId, String rubric) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int updated = jdbcTemplate.update(
+                "UPDATE question_rubrics SET rubric = ?, attempts = attempts + 1, generated_at = ? WHERE question_id = ?",
+                rubric, now, questionId);
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO question_rubrics (question_id, rubric, attempts, generated_at) VALUES (?, ?, 1, ?)",
+                    questionId, rubric, now);
+        }
+    }
+
+    /**
+     * 생성 실패 기록 (채점 기준 없이 시도 횟수만 증가)
+     */
+    public void recordFailure(Long questionId) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int updated = jdbcTemplate.update(
+                "UPDATE question_rubrics SET attempts = attempts + 1, generated_at = ? WHERE question_id = ? AND rubric IS NULL",
+                now, questionId);
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO question_rubrics (question_id, rubric, attempts, generated_at) VALUES (?, NULL, 1, ?)",
+                    questionId, now);
+        }
+    }
+
+    /**
+     * 모범 답안이 아직 없을 때만 저장 (관리자가 그 사이 입력한 답안은 덮어쓰지 않음)
+     * 컬럼보다 긴 답안은 잘라 저장하면 유사도 채점 기준이 잘린 문장이 되므로 저장하지 않음
+     */
+    public boolean saveReferenceAnswerIfAbsent(Long questionId, String referenceAnswer) {
+        if (referenceAnswer.length() > MAX_REFERENCE_ANSWER_LENGTH) {
+            return false;
+        }
+        return jdbcTemplate.update(
+                "UPDATE questions SET answer = ? WHERE id = ? AND answer IS NULL", referenceAnswer, questionId) > 0;
+    }
+
+    public long loadCheckpoint(String jobName) {
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT last_id FROM batch_checkpoints WHERE job_name = ?", Long.class, jobName);
+        return rows.isEmpty() ? 0L : rows.get(0);
+    }
+
+    public void saveCheckpoint(String jobName, long lastId) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int updated = jdbcTemplate.update(
+                "UPDATE batch_checkpoints SET last_id = ?, updated_at = ? WHERE job_name = ?", lastId, now, jobName);
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO batch_checkpoints (job_name, last_id, updated_at) VALUES (?, ?, ?)", jobName, lastId, now);
+        }
+    }
+
+    /**
+     * 작업 실행 권한 획득/연장 (다른 노드가 만료 전까지 점유 중이면 false)
+     */
+    public boolean tryAcquireLease(String jobName, String owner, Duration leaseDuration) {
+        Instant now = Instant.now();
+        jdbcTemplate.update("""
+                INSERT INTO batch_checkpoints (job_name, last_id, updated_at) VALUES (?, 0, ?)
+                ON CONFLICT (job_name) DO NOTHING
+                """, jobName, Timestamp.from(now));
+        return jdbcTemplate.update("""
+                UPDATE batch_checkpoints SET locked_by = ?, locked_until = ?
+                WHERE job_name = ? AND (locked_by IS NULL OR locked_by = ? OR locked_until < ?)
+                """, owner, Timestamp.from(now.plus(leaseDuration)), jobName, owner, Timestamp.from(now)) > 0;
+    }
+
+    public void releaseLease(String jobName, String owner) {
+        jdbcTemplate.update(
+                "UPDATE batch_checkpoints SET locked_by = NULL, locked_until = NULL WHERE job_name = ? AND locked_by = ?",
+                jobName, owner);
+    }
+}
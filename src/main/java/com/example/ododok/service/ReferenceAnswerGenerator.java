@@ -0,0 +1,136 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.ReferenceAnswerResponse;
+import com.example.ododok.entity.Question;
+import com.example.ododok.repository.QuestionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 모범 답안이 없는 문제에 대해 모범 답안 + 채점 기준을 백그라운드로 사전 생성
+ * (scoring.pregeneration.enabled=true 일 때만 동작)
+ * 한 주기에 한 문제씩 처리해 호출 속도를 제한하고, 마지막 처리한 문제 ID를 체크포인트로 저장해 재시작 시 이어서 진행
+ * 채점 기준이 이미 있는 문제와 max-attempts번 실패한 문제는 대상에서 빠지고, 한 바퀴를 돌면 이번 기동에서는 멈춤
+ * 여러 노드 중 batch_checkpoints 점유를 잡은 한 노드만 실행
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "scoring.pregeneration.enabled", havingValue = "true")
+public class ReferenceAnswerGenerator {
+
+    static final String JOB_NAME = "reference-answer-pregeneration";
+    private static final int BATCH_SIZE = 20;
+
+    private final QuestionRepository questionRepository;
+    private final QuestionRubricStore questionRubricStore;
+    private final GeminiService geminiService;
+    private final GeminiCircuitBreaker circuitBreaker;
+    private final Counter generated;
+    private final Counter failed;
+    private final int maxAttempts;
+    private final Duration leaseDuration;
+    private final String owner = ScoringJobWorker.workerId();
+
+    private final Deque<Question> pending = new ArrayDeque<>();
+    private long checkpoint = -1;
+    private boolean finished;
+
+    public ReferenceAnswerGenerator(QuestionRepository questionRepository,
+                                    QuestionRubricStore questionRubricStore,
+                                    GeminiService geminiService,
+                                    GeminiCircuitBreaker circuitBreaker,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${scoring.pregeneration.max-attempts:3}") int maxAttempts,
+                                    @Value("${scoring.pregeneration.lease-ms:300000}") long leaseMs) {
+        this.questionRepository = questionRepository;
+        this.questionRubricStore = questionRubricStore;
+        this.geminiService = geminiService;
+        this.circuitBreaker = circuitBreaker;
+        this.maxAttempts = maxAttempts;
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+        this.generated = Counter.builder("scoring.pregeneration.processed").tag("result", "generated").register(meterRegistry);
+        this.failed = Counter.builder("scoring.pregeneration.processed").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * 한 주기에 한 문제 처리 (실패한 문제는 실패 횟수를 남기고 건너뜀, 다음 기동 때 한도 안에서 다시 시도)
+     */
+    @Scheduled(fixedDelayString = "${scoring.pregeneration.interval-ms:6000}",
+            initialDelayString = "${scoring.pregeneration.initial-delay-ms:60000}")
+    public synchronized void generateNext() {
+        if (finished) {
+            return;
+        }
+        // Gemini 장애 중에는 실제 채점 트래픽을 위해 쉬어감
+        if (circuitBreaker.getState() != GeminiCircuitBreaker.State.CLOSED) {
+            return;
+        }
+
+        if (!questionRubricStore.tryAcquireLease(JOB_NAME, owner, leaseDuration)) {
+            // 다른 노드가 실행 중, 점유를 다시 잡으면 그 노드가 남긴 체크포인트부터 이어감
+            pending.clear();
+            checkpoint = -1;
+            return;
+        }
+
+        Question question = nextQuestion();
+        if (question == null) {
+            finishPass();
+            return;
+        }
+
+        try {
+            ReferenceAnswerResponse response = geminiService.generateReferenceAnswer(
+                    question.getTitle(), question.getQuestion(), question.getContent());
+            questionRubricStore.saveRubric(question.getId(), response.getRubric());
+            if (!questionRubricStore.saveReferenceAnswerIfAbsent(question.getId(), response.getReferenceAnswer())) {
+                log.debug("모범 답안 저장 생략 - questionId: {} (이미 있거나 {}자 초과)",
+                        question.getId(), QuestionRubricStore.MAX_REFERENCE_ANSWER_LENGTH);
+            }
+            generated.increment();
+        } catch (Exception e) {
+            failed.increment();
+            questionRubricStore.recordFailure(question.getId());
+            log.warn("모범 답안 사전 생성 실패 - questionId: {}, {}", question.getId(), e.getMessage());
+        }
+
+        checkpoint = question.getId();
+        questionRubricStore.saveCheckpoint(JOB_NAME, checkpoint);
+    }
+
+    /**
+     * 체크포인트 이후 대상 문제를 20개씩 읽어 처리
+     */
+    private Question nextQuestion() {
+        if (checkpoint < 0) {
+            checkpoint = questionRubricStore.loadCheckpoint(JOB_NAME);
+        }
+
+        if (pending.isEmpty()) {
+            pending.addAll(questionRepository.findPregenerationTargets(
+                    checkpoint, maxAttempts, PageRequest.of(0, BATCH_SIZE)));
+        }
+        return pending.poll();
+    }
+
+    /**
+     * 한 바퀴 완료 - 체크포인트를 처음으로 돌려 다음 기동 때 새 문제/재시도 대상만 다시 훑도록 하고 점유 해제
+     */
+    private void finishPass() {
+        finished = true;
+        checkpoint = 0;
+        questionRubricStore.saveCheckpoint(JOB_NAME, checkpoint);
+        questionRubricStore.releaseLease(JOB_NAME, owner);
+        log.info("모범 답안 사전 생성 한 바퀴 완료, 이번 기동에서는 종료");
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.ScoringItem;
+import com.example.ododok.dto.TechnicalFeedbackResponse;
+import com.example.ododok.repository.QuestionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모범 답안(Question.answer) 대비 TF-IDF 코사인 유사도로 기술 면접 답변 로컬 채점
+ * 유사도가 충분히 높은 답변만 바로 채점하고, 애매한 답변은 null을 반환해 Gemini 채점으로 넘김
+ */
+@Slf4j
+@Component
+public class ReferenceAnswerScorer {
+
+    private static final String FEEDBACK = "모범 답안의 핵심 내용을 잘 담고 있습니다.";
+
+    private final QuestionRepository questionRepository;
+    private final boolean enabled;
+    private final double acceptThreshold;
+    private final double rejectThreshold;
+    private final Counter scoredLocally;
+    private final Counter escalated;
+
+    // 문제별 모범 답안 가중치 벡터 (모범 답안이 바뀌거나 코퍼스를 다시 읽으면 재계산)
+    private final Map<Long, ReferenceVector> referenceVectors = new ConcurrentHashMap<>();
+    private volatile Corpus corpus;
+
+    public ReferenceAnswerScorer(QuestionRepository questionRepository,
+                                 @Value("${scoring.reference.enabled:true}") boolean enabled,
+                                 @Value("${scoring.reference.accept-threshold:0.75}") double acceptThreshold,
+                                 @Value("${scoring.reference.reject-threshold:0}") double rejectThreshold,
+                                 MeterRegistry meterRegistry) {
+        this.questionRepository = questionRepository;
+        this.enabled = enabled;
+        this.acceptThreshold = acceptThreshold;
+        this.rejectThreshold = rejectThreshold;
+        this.scoredLocally = Counter.builder("scoring.reference.decided")
+                .tag("result", "local")
+                .register(meterRegistry);
+        this.escalated = Counter.builder("scoring.reference.decided")
+                .tag("result", "escalated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 모범 답안과 비교해 확실한 경우만 채점 (모범 답안이 없거나 애매하면 null)
+     */
+    public TechnicalFeedbackResponse score(ScoringItem item) {
+        if (!enabled || item.getReferenceAnswer() == null || item.getReferenceAnswer().isBlank()) {
+            return null;
+        }
+
+        double similarity = similarity(item.getQuestionId(), item.getReferenceAnswer(), item.getAnswer());
+        if (similarity >= acceptThreshold) {
+            scoredLocally.increment();
+            int score = similarity >= (1 + acceptThreshold) / 2 ? 5 : 4;
+            return new TechnicalFeedbackResponse(score, score, score, FEEDBACK);
+        }
+        // 표현만 다른 정답일 수 있어 기본값(0)에서는 낮은 유사도도 Gemini로 넘김
+        if (similarity < rejectThreshold) {
+            scoredLocally.increment();
+            return new TechnicalFeedbackResponse(1, 1, 1, "모범 답안의 핵심 내용과 거리가 멉니다. 핵심 개념을 중심으로 다시 정리해보세요.");
+        }
+
+        escalated.increment();
+        return null;
+    }
+
+    /**
+     * 답변과 모범 답안의 TF-IDF 코사인 유사도 (0~1)
+     */
+    double similarity(Long questionId, String reference, String answer) {
+        Corpus current = corpus();
+        ReferenceVector cached = questionId == null ? null : referenceVectors.get(questionId);
+        if (cached == null || cached.corpus() != current || !cached.source().equals(reference)) {
+            cached = new ReferenceVector(reference, current, vectorize(reference, current));
+            if (questionId != null) {
+                referenceVectors.put(questionId, cached);
+            }
+        }
+
+        Map<String, Double> answerVector = vectorize(answer, current);
+        double dot = 0;
+        for (Map.Entry<String, Double> entry : answerVector.entrySet()) {
+            Double weight = cached.weights().get(entry.getKey());
+            if (weight != null) {
+                dot += weight * entry.getValue();
+            }
+        }
+        return dot;
+    }
+
+    /**
+     * 문서 빈도 재계산 (모범 답안 추가/수정 반영)
+     */
+    @Scheduled(fixedDelayString = "${scoring.reference.corpus-refresh-ms:3600000}",
+            initialDelayString = "${scoring.reference.corpus-refresh-ms:3600000}")
+    public void refreshCorpus() {
+        corpus = loadCorpus();
+        referenceVectors.clear();
+    }
+
+    private Corpus corpus() {
+        Corpus current = corpus;
+        if (current == null) {
+            synchronized (this) {
+                if (corpus == null) {
+                    corpus = loadCorpus();
+                }
+                current = corpus;
+            }
+        }
+        return current;
+    }
+
+    private Corpus loadCorpus() {
+        try {
+            List<String> references = questionRepository.findAllReferenceAnswers();
+            Map<String, Integer> documentFrequency = new HashMap<>();
+            for (String reference : references) {
+                tokenize(reference).keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+            }
+            log.info("모범 답안 코퍼스 로드: 문서 {}개, 용어 {}개", references.size(), documentFrequency.size());
+            return new Corpus(documentFrequency, references.size());
+        } catch (Exception e) {
+            // 코퍼스 없이도 IDF=1로 동작
+            log.warn("모범 답안 코퍼스 로드 실패: {}", e.getMessage());
+            return new Corpus(Map.of(), 0);
+        }
+    }
+
+    /**
+     * 로그 스케일 TF * 평활 IDF, 단위 벡터로 정규화
+     */
+    private static Map<String, Double> vectorize(String text, Corpus corpus) {
+        Map<String, Integer> termFrequency = tokenize(text);
+        Map<String, Double> weights = new HashMap<>(termFrequency.size() * 2);
+        double norm = 0;
+        for (Map.Entry<String, Integer> entry : termFrequency.entrySet()) {
+            int df = corpus.documentFrequency().getOrDefault(entry.getKey(), 0);
+            double idf = Math.log((corpus.documents() + 1.0) / (df + 1.0)) + 1.0;
+            double weight = (1 + Math.log(entry.getValue())) * idf;
+            weights.put(entry.getKey(), weight);
+            norm += weight * weight;
+        }
+
+        double length = Math.sqrt(norm);
+        if (length > 0) {
+            weights.replaceAll((term, weight) -> weight / length);
+        }
+        return weights;
+    }
+
+    /**
+     * 영문/숫자는 단어 단위, 한글은 조사/어미 변화에 덜 민감하도록 음절 바이그램 단위
+     */
+    static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        if (text == null) {
+            return terms;
+        }
+
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (token.chars().allMatch(c -> c < 128) || token.length() == 1) {
+                terms.merge(token, 1, Integer::sum);
+                continue;
+            }
+            for (int i = 0; i + 1 < token.length(); i++) {
+                terms.merge(token.substring(i, i + 2), 1, Integer::sum);
+            }
+        }
+        return terms;
+    }
+
+    private record Corpus(Map<String, Integer> documentFrequency, int documents) {
+    }
+
+    private record ReferenceVector(String source, Corpus corpus, Map<String, Double> weights) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.AnswerScore;
+import com.example.ododok.dto.ScoringItem;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 임시 점수(degraded)로 채점된 답변을 Gemini 복구 후 재채점하고 포인트 차이를 정산
+ * 한 번에 batchSize건만 꺼내 채점 풀에서 실행하므로 스케줄러 스레드는 막히지 않음
+ */
+@Slf4j
+@Service
+public class RescoringService {
+
+    private final AnswerScoringService answerScoringService;
+    private final PointCreditService pointCreditService;
+    private final GeminiCircuitBreaker circuitBreaker;
+    private final BlockingQueue<PendingRescore> queue;
+    private final int maxAttempts;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RescoringService(AnswerScoringService answerScoringService,
+                            PointCreditService pointCreditService,
+                            GeminiCircuitBreaker circuitBreaker,
+                            MeterRegistry meterRegistry,
+                            @Value("${scoring.rescore.max-pending:10000}") int maxPending,
+                            @Value("${scoring.rescore.max-attempts:5}") int maxAttempts,
+                            @Value("${scoring.rescore.batch-size:50}") int batchSize) {
+        this.answerScoringService = answerScoringService;
+        this.pointCreditService = pointCreditService;
+        this.circuitBreaker = circuitBreaker;
+        this.queue = new LinkedBlockingQueue<>(maxPending);
+        this.maxAttempts = maxAttempts;
+        this.batchSize = batchSize;
+
+        Gauge.builder("scoring.rescore.pending", queue, BlockingQueue::size)
+                .description("재채점 대기 중인 답변 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 임시 점수로 채점된 답변들을 재채점 대기열에 등록
+     */
+    public void enqueueDegraded(Long userId, List<ScoringItem> items, List<AnswerScore> scores) {
+        for (int i = 0; i < scores.size(); i++) {
+            if (scores.get(i).isDegraded()) {
+                PendingRescore pending = new PendingRescore(userId, items.get(i), scores.get(i).getPointsEarned(), 0);
+                if (!queue.offer(pending)) {
+                    log.warn("재채점 대기열 초과 - user {}, question {} 재채점 누락", userId, items.get(i).getQuestionId());
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scoring.rescore.interval-ms:60000}")
+    public void rescorePending() {
+        // 서킷이 닫혀 있을 때만 재채점 (반개방 시험 호출은 실제 요청에 양보)
+        if (circuitBreaker.getState() != GeminiCircuitBreaker.State.CLOSED || queue.isEmpty()) {
+            return;
+        }
+        // 이전 배치가 아직 채점 중이면 건너뜀
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<PendingRescore> batch = new ArrayList<>();
+        queue.drainTo(batch, batchSize);
+        log.info("임시 점수 답변 {}건 재채점 시작 (대기 {}건)", batch.size(), queue.size());
+
+        CompletableFuture<?>[] futures = batch.stream()
+                .map(pending -> answerScoringService.supplyAsync(() -> {
+                    rescore(pending);
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).whenComplete((result, e) -> running.set(false));
+    }
+
+    private void rescore(PendingRescore pending) {
+        AnswerScore rescored;
+        try {
+            rescored = answerScoringService.scoreAnswer(pending.item());
+        } catch (RuntimeException e) {
+            log.warn("재채점 오류 - user {}, question {}: {}", pending.userId(), pending.item().getQuestionId(), e.getMessage());
+            retry(pending);
+            return;
+        }
+
+        if (rescored.isDegraded()) {
+            retry(pending);
+            return;
+        }
+
+        // 임시 점수와 실제 점수의 차이만 정산
+        int delta = rescored.getPointsEarned() - pending.provisionalPoints();
+        if (delta != 0) {
+            pointCreditService.creditPoints(pending.userId(), delta);
+        }
+        log.info("재채점 완료 - user {}, question {}, 정산 {}점",
+                pending.userId(), pending.item().getQuestionId(), delta);
+    }
+
+    private void retry(PendingRescore pending) {
+        if (pending.attempts() + 1 < maxAttempts) {
+            queue.offer(pending.retry());
+        } else {
+            log.warn("재채점 포기 - user {}, question {}", pending.userId(), pending.item().getQuestionId());
+        }
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private record PendingRescore(Long userId, ScoringItem item, int provisionalPoints, int attempts) {
+        PendingRescore retry() {
+            return new PendingRescore(userId, item, provisionalPoints, attempts + 1);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.ododok.service;
+
+import com.example.ododok.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 제출 채점 작업 수락 제어 (동시 채점 수 + 길이 제한 대기열 + 대기 시간 SLO)
+ * 대기열이 가득 차면 429, SLO 안에 차례가 오지 않으면 503으로 바로 거절해
+ * 몰린 요청이 스레드와 DB 커넥션을 붙잡고 쌓이지 않도록 함
+ */
+@Slf4j
+@Component
+public class ScoringAdmissionController {
+
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int maxQueueDepth;
+    private final Duration maxQueueWait;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    // 작업 큐(scoring_jobs)에서 차례를 기다리는 작업 수 (전체 노드, 워커 폴링 주기마다 갱신)
+    private final AtomicLong queueBacklog = new AtomicLong();
+    private final Timer queueWait;
+    private final Counter shedQueueFull;
+    private final Counter shedQueueTimeout;
+    private final Counter shedBacklogFull;
+
+    // 채점 1건 처리 시간 이동 평균 (Retry-After 추정용)
+    private volatile long averageServiceNanos;
+
+    public ScoringAdmissionController(@Value("${scoring.admission.max-concurrent:32}") int maxConcurrent,
+                                      @Value("${scoring.admission.max-queue-depth:64}") int maxQueueDepth,
+                                      @Value("${scoring.admission.max-queue-wait-ms:5000}") long maxQueueWaitMs,
+                                      MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueueDepth = maxQueueDepth;
+        this.maxQueueWait = Duration.ofMillis(maxQueueWaitMs);
+        this.averageServiceNanos = maxQueueWait.toNanos();
+
+        Gauge.builder("scoring.admission.queue.depth", waiting, AtomicInteger::get)
+                .description("채점 차례를 기다리는 제출 수")
+                .register(meterRegistry);
+        Gauge.builder("scoring.admission.active", active, AtomicInteger::get)
+                .description("채점 중인 제출 수")
+                .register(meterRegistry);
+        Gauge.builder("scoring.queue.pending", queueBacklog, AtomicLong::get)
+                .description("작업 큐에서 차례를 기다리는 제출 수 (전체 노드)")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("scoring.admission.wait")
+                .description("제출이 채점 차례를 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.shedQueueFull = Counter.builder("scoring.admission.shed")
+                .description("과부하로 거절한 제출 수")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.shedQueueTimeout = Counter.builder("scoring.admission.shed")
+                .description("과부하로 거절한 제출 수")
+                .tag("reason", "queue_timeout")
+                .register(meterRegistry);
+        this.shedBacklogFull = Counter.builder("scoring.admission.shed")
+                .description("과부하로 거절한 제출 수")
+                .tag("reason", "backlog_full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 차례가 오면 work 실행 (대기열 초과/대기 시간 초과 시 RateLimitExceededException)
+     */
+    public <T> T admit(Supplier<T> work) {
+        acquire();
+        return run(work);
+    }
+
+    /**
+     * 이미 접수(202)한 비동기 작업용: 대기 시간 SLO 없이 차례가 올 때까지 기다림
+     * 대기열 길이는 접수 시점에 checkCapacity로 판단했으므로 여기서는 거절하지 않음
+     */
+    public <T> T admitAccepted(Supplier<T> work) {
+        waiting.incrementAndGet();
+        long startedAt = System.nanoTime();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채점 대기 중 중단되었습니다.", e);
+        } finally {
+            waiting.decrementAndGet();
+            queueWait.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        active.incrementAndGet();
+        return run(work);
+    }
+
+    private <T> T run(Supplier<T> work) {
+        long startedAt = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            averageServiceNanos = (long) (EWMA_ALPHA * elapsed + (1 - EWMA_ALPHA) * averageServiceNanos);
+            active.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    /**
+     * 대기열이 이미 가득 찼으면 바로 거절 (비동기 제출은 접수 시점에 판단)
+     */
+    public void checkCapacity() {
+        if (permits.availablePermits() == 0 && waiting.get() >= maxQueueDepth) {
+            throw queueFull();
+        }
+    }
+
+    /**
+     * 작업 큐 대기 작업이 maxPending 이상이면 바로 거절 (작업 큐 사용 시 접수 시점에 판단)
+     * 대기 작업 수는 폴링 주기마다 갱신한 값이라 그만큼 늦을 수 있음
+     */
+    public void checkQueueBacklog(long maxPending) {
+        long backlog = queueBacklog.get();
+        if (backlog >= maxPending) {
+            shedBacklogFull.increment();
+            log.warn("작업 큐 대기 작업이 한도를 넘어 제출 거절 (대기 {}건, 한도 {}건)", backlog, maxPending);
+            throw new RateLimitExceededException("채점 요청이 많습니다. 잠시 후 다시 시도해주세요.",
+                    "SCORING_QUEUE_FULL", estimatedWait(backlog));
+        }
+    }
+
+    /**
+     * 작업 큐 대기 작업 수 갱신 (ScoringJobWorker가 폴링 주기마다 조회)
+     */
+    public void updateQueueBacklog(long pending) {
+        queueBacklog.set(pending);
+    }
+
+    private void acquire() {
+        // 공정 모드라 대기 중인 제출이 있으면 즉시 획득도 순서를 지킴
+        if (tryAcquire(0)) {
+            queueWait.record(Duration.ZERO);
+            active.incrementAndGet();
+            return;
+        }
+        if (waiting.incrementAndGet() > maxQueueDepth) {
+            waiting.decrementAndGet();
+            throw queueFull();
+        }
+
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = tryAcquire(maxQueueWait.toNanos());
+        } finally {
+            waiting.decrementAndGet();
+            queueWait.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            shedQueueTimeout.increment();
+            log.warn("채점 대기 시간 초과로 제출 거절 (대기 {}건, 채점 중 {}건)", waiting.get(), active.get());
+            throw new RateLimitExceededException("채점 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.",
+                    "SCORING_QUEUE_TIMEOUT", estimatedWait(waiting.get()));
+        }
+        active.incrementAndGet();
+    }
+
+    private boolean tryAcquire(long timeoutNanos) {
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private RateLimitExceededException queueFull() {
+        shedQueueFull.increment();
+        log.warn("채점 대기열이 가득 차 제출 거절 (대기 {}건, 채점 중 {}건)", waiting.get(), active.get());
+        return new RateLimitExceededException("채점 요청이 많습니다. 잠시 후 다시 시도해주세요.",
+                "SCORING_QUEUE_FULL", estimatedWait(waiting.get()));
+    }
+
+    /**
+     * 대기열이 빠지는 데 걸릴 예상 시간 (평균 채점 시간 × 대기 수 / 동시 채점 수)
+     */
+    private Duration estimatedWait(long queued) {
+        return Duration.ofNanos(averageServiceNanos * (queued + 1) / maxConcurrent);
+    }
+
+    int queueDepth() {
+        return waiting.get();
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.ProblemSubmissionResponse;
+import com.example.ododok.dto.ScoringItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 제출 채점 작업 큐 (scoring_jobs 테이블)
+ * 노드마다 워커가 SELECT ... FOR UPDATE SKIP LOCKED로 서로 다른 작업을 가져가고,
+ * locked_until(가시성 타임아웃)이 지난 RUNNING 작업은 멈춘 노드의 작업으로 보고 다시 가져감
+ * 테이블 스키마는 ScoringJob 엔티티 기준
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoringJobStore {
+
+    private static final TypeReference<List<ScoringItem>> ITEMS_TYPE = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 워커가 가져간 작업
+     */
+    public record ClaimedJob(String id, Long userId, List<ScoringItem> items, int attempts) {
+    }
+
+    /**
+     * 저장된 작업 상태 (다른 노드가 처리 중이거나 재시작 후 조회할 때 사용)
+     */
+    public record StoredJob(String id, Long userId, String status, int totalAnswers,
+                            ProblemSubmissionResponse result, String error) {
+    }
+
+    public void enqueue(String jobId, Long userId, List<ScoringItem> items) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                INSERT INTO scoring_jobs (id, user_id, status, payload, total_answers, attempts, available_at, created_at, updated_at)
+                VALUES (?, ?, 'PENDING', ?, ?, 0, ?, ?, ?)
+                """, jobId, userId, write(items), items.size(), now, now, now);
+    }
+
+    /**
+     * 실행 가능한 작업을 최대 limit개 가져가 RUNNING으로 표시 (다른 노드가 잠근 행은 건너뜀)
+     * 점유가 만료된 작업 중 이미 maxAttempts번 시도한 작업(노드가 죽는 등)은 다시 실행하지 않고 실패 처리
+     */
+    @Transactional
+    public List<ClaimedJob> claim(String workerId, int limit, Duration visibilityTimeout, int maxAttempts) {
+        Instant now = Instant.now();
+        Timestamp nowTs = Timestamp.from(now);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT id, attempts FROM scoring_jobs
+                WHERE (status = 'PENDING' AND available_at <= ?) OR (status = 'RUNNING' AND locked_until < ?)
+                ORDER BY available_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """, nowTs, nowTs, limit);
+
+        List<String> exhausted = rows.stream()
+                .filter(row -> ((Number) row.get("attempts")).intValue() >= maxAttempts)
+                .map(row -> (String) row.get("id"))
+                .toList();
+        if (!exhausted.isEmpty()) {
+            jdbcTemplate.batchUpdate("""
+                    UPDATE scoring_jobs
+                    SET status = 'FAILED', error = ?, locked_by = NULL, locked_until = NULL, updated_at = ?
+                    WHERE id = ?
+                    """, exhausted.stream()
+                    .map(id -> new Object[]{"작업 점유가 " + maxAttempts + "회 만료되어 중단", nowTs, id})
+                    .toList());
+        }
+
+        List<String> ids = rows.stream()
+                .filter(row -> ((Number) row.get("attempts")).intValue() < maxAttempts)
+                .map(row -> (String) row.get("id"))
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp lockedUntil = Timestamp.from(now.plus(visibilityTimeout));
+        jdbcTemplate.batchUpdate("""
+                UPDATE scoring_jobs
+                SET status = 'RUNNING', locked_by = ?, locked_until = ?, attempts = attempts + 1, updated_at = ?
+                WHERE id = ?
+                """, ids.stream().map(id -> new Object[]{workerId, lockedUntil, nowTs, id}).toList());
+
+        String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(","));
+        return jdbcTemplate.query("SELECT id, user_id, payload, attempts FROM scoring_jobs WHERE id IN (" + placeholders + ")",
+                (rs, rowNum) -> new ClaimedJob(
+                        rs.getString("id"),
+                        rs.getLong("user_id"),
+                        readItems(rs.getString("payload")),
+                        rs.getInt("attempts")),
+                ids.toArray());
+    }
+
+    /**
+     * 채점이 길어질 때 점유 연장 (다른 워커에게 넘어갔으면 false)
+     */
+    public boolean extendLease(String jobId, String workerId, Duration visibilityTimeout) {
+        Instant now = Instant.now();
+        return jdbcTemplate.update("""
+                UPDATE scoring_jobs
+                SET locked_until = ?, updated_at = ?
+                WHERE id = ? AND locked_by = ? AND status = 'RUNNING'
+                """, Timestamp.from(now.plus(visibilityTimeout)), Timestamp.from(now), jobId, workerId) > 0;
+    }
+
+    /**
+     * 완료 처리 (다른 워커에게 넘어간 작업이면 false, 호출한 쪽이 포인트 지급 트랜잭션을 롤백)
+     */
+    public boolean complete(String jobId, String workerId, ProblemSubmissionResponse result) {
+        return jdbcTemplate.update("""
+                UPDATE scoring_jobs
+                SET status = 'COMPLETED', result = ?, error = NULL, locked_by = NULL, locked_until = NULL, updated_at = ?
+                WHERE id = ? AND locked_by = ? AND status = 'RUNNING'
+                """, write(result), Timestamp.from(Instant.now()), jobId, workerId) > 0;
+    }
+
+    /**
+     * availableAt 이후 다시 시도하도록 대기 상태로 되돌림
+     */
+    public void retryLater(String jobId, String workerId, Instant availableAt, String error) {
+        jdbcTemplate.update("""
+                UPDATE scoring_jobs
+                SET status = 'PENDING', available_at = ?, error = ?, locked_by = NULL, locked_until = NULL, updated_at = ?
+                WHERE id = ? AND locked_by = ? AND status = 'RUNNING'
+                """, Timestamp.from(availableAt), truncate(error), Timestamp.from(Instant.now()), jobId, workerId);
+    }
+
+    public void fail(String jobId, String workerId, String error) {
+        jdbcTemplate.update("""
+                UPDATE scoring_jobs
+                SET status = 'FAILED', error = ?, locked_by = NULL, locked_until = NULL, updated_at = ?
+                WHERE id = ? AND locked_by = ? AND status = 'RUNNING'
+                """, truncate(error), Timestamp.from(Instant.now()), jobId, workerId);
+    }
+
+    /**
+     * 차례를 기다리는 작업 수 (접수 한도 판단용)
+     */
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM scoring_jobs WHERE status = 'PENDING'", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    public Optional<StoredJob> find(String jobId) {
+        return jdbcTemplate.query("""
+                SELECT id, user_id, status, total_answers, result, error FROM scoring_jobs WHERE id = ?
+                """, (rs, rowNum) -> new StoredJob(
+                        rs.getString("id"),
+                        rs.getLong("user_id"),
+                        rs.getString("status"),
+                        rs.getInt("total_answers"),
+                        readResult(rs.getString("result")),
+                        rs.getString("error")),
+                jobId).stream().findFirst();
+    }
+
+    /**
+     * 여러 작업의 저장된 상태를 한 번에 조회 (결과를 읽지 못한 행은 로그만 남기고 제외)
+     */
+    public Map<String, StoredJob> findAll(Collection<String> jobIds) {
+        if (jobIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String placeholders = jobIds.stream().map(id -> "?").collect(Collectors.joining(","));
+        Map<String, StoredJob> jobs = new HashMap<>();
+        jdbcTemplate.query("SELECT id, user_id, status, total_answers, result, error FROM scoring_jobs WHERE id IN ("
+                        + placeholders + ")",
+                rs -> {
+                    String id = rs.getString("id");
+                    try {
+                        jobs.put(id, new StoredJob(
+                                id,
+                                rs.getLong("user_id"),
+                                rs.getString("status"),
+                                rs.getInt("total_answers"),
+                                readResult(rs.getString("result")),
+                                rs.getString("error")));
+                    } catch (IllegalStateException e) {
+                        log.warn("채점 작업 {} 상태 읽기 실패: {}", id, e.getMessage());
+                    }
+                },
+                jobIds.toArray());
+        return jobs;
+    }
+
+    /**
+     * 끝난 지 오래된 작업 정리
+     */
+    public int deleteFinishedBefore(Instant threshold) {
+        return jdbcTemplate.update(
+                "DELETE FROM scoring_jobs WHERE status IN ('COMPLETED', 'FAILED') AND updated_at < ?",
+                Timestamp.from(threshold));
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채점 작업 직렬화 실패", e);
+        }
+    }
+
+    private List<ScoringItem> readItems(String payload) {
+        try {
+            return objectMapper.readValue(payload, ITEMS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채점 작업 역직렬화 실패", e);
+        }
+    }
+
+    private ProblemSubmissionResponse readResult(String result) {
+        if (result == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(result, ProblemSubmissionResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채점 결과 역직렬화 실패", e);
+        }
+    }
+
+    private String truncate(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.AnswerScore;
+import com.example.ododok.dto.ProblemSubmissionResponse;
+import com.example.ododok.dto.SubmissionScores;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * scoring_jobs 큐 워커 (노드마다 실행, 가상 스레드에서 채점)
+ * 실패하면 지수 백오프로 다시 시도하고, 최대 시도 횟수를 넘으면 실패 처리
+ * 포인트 지급과 완료 표시는 한 트랜잭션으로 묶어 재시도/중복 실행 시에도 한 번만 지급
+ * 채점 중에는 가시성 타임아웃의 1/3 간격으로 점유를 연장해 오래 걸리는 작업을 다른 노드가 가져가지 않도록 함
+ * 채점 자체는 동기 제출과 같은 ScoringAdmissionController 동시 채점 한도 안에서 실행
+ */
+@Slf4j
+@Component
+public class ScoringJobWorker {
+
+    private final ScoringJobStore jobStore;
+    private final AnswerScoringService answerScoringService;
+    private final ProblemService problemService;
+    private final SubmissionJobService submissionJobService;
+    private final ScoringAdmissionController admissionController;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final Semaphore capacity;
+    private final Duration visibilityTimeout;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration retention;
+    private final String workerId = workerId();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService leaseRenewer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("scoring-lease-renewer").daemon().factory());
+
+    public ScoringJobWorker(ScoringJobStore jobStore,
+                            AnswerScoringService answerScoringService,
+                            ProblemService problemService,
+                            SubmissionJobService submissionJobService,
+                            ScoringAdmissionController admissionController,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${scoring.queue.enabled:false}") boolean enabled,
+                            @Value("${scoring.queue.workers:8}") int workers,
+                            @Value("${scoring.queue.visibility-timeout-ms:300000}") long visibilityTimeoutMs,
+                            @Value("${scoring.queue.max-attempts:3}") int maxAttempts,
+                            @Value("${scoring.queue.backoff-base-ms:2000}") long backoffBaseMs,
+                            @Value("${scoring.queue.backoff-max-ms:60000}") long backoffMaxMs,
+                            @Value("${scoring.queue.retention-hours:24}") long retentionHours) {
+        this.jobStore = jobStore;
+        this.answerScoringService = answerScoringService;
+        this.problemService = problemService;
+        this.submissionJobService = submissionJobService;
+        this.admissionController = admissionController;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.capacity = new Semaphore(workers);
+        this.visibilityTimeout = Duration.ofMillis(visibilityTimeoutMs);
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofMillis(backoffBaseMs);
+        this.backoffMax = Duration.ofMillis(backoffMaxMs);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * 대기 작업 수를 갱신하고, 남은 워커 수만큼 작업을 가져가 실행
+     */
+    @Scheduled(fixedDelayString = "${scoring.queue.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            admissionController.updateQueueBacklog(jobStore.countPending());
+        } catch (RuntimeException e) {
+            log.warn("채점 작업 대기 수 조회 실패: {}", e.getMessage());
+        }
+
+        int free = capacity.availablePermits();
+        if (free == 0) {
+            return;
+        }
+
+        List<ScoringJobStore.ClaimedJob> claimed;
+        try {
+            claimed = jobStore.claim(workerId, free, visibilityTimeout, maxAttempts);
+        } catch (RuntimeException e) {
+            log.warn("채점 작업 가져오기 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (ScoringJobStore.ClaimedJob job : claimed) {
+            capacity.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    capacity.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 완료/실패 작업 삭제
+     */
+    @Scheduled(fixedDelayString = "${scoring.jobs.cleanup-interval-ms:60000}")
+    public void purgeFinishedJobs() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = jobStore.deleteFinishedBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.debug("끝난 채점 작업 {}건 삭제", deleted);
+        }
+    }
+
+    void process(ScoringJobStore.ClaimedJob job) {
+        // 이 노드에서 접수한 작업이면 진행 상황을 SSE 구독자에게 전달
+        Optional<SubmissionJob> local = submissionJobService.localJob(job.id());
+
+        long renewIntervalMs = Math.max(1, visibilityTimeout.toMillis() / 3);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleAtFixedRate(
+                () -> renewLease(job), renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+        try {
+            // 차례를 기다리는 동안에도 점유는 계속 연장
+            SubmissionScores scores = admissionController.admitAccepted(() -> {
+                local.ifPresent(SubmissionJob::start);
+                return answerScoringService.scoreSubmission(job.items(), new AnswerScoringService.ScoreListener() {
+                    @Override
+                    public void onScored(int index, AnswerScore score) {
+                        local.ifPresent(submission -> submission.answerScored(index, score));
+                    }
+
+                    @Override
+                    public void onCommentChunk(String chunk) {
+                        local.ifPresent(submission -> submission.commentChunk(chunk));
+                    }
+                });
+            });
+            // 남은 작업은 짧은 트랜잭션뿐이므로 연장 중단 (완료 후 연장 시도가 경고로 남지 않도록)
+            renewal.cancel(false);
+
+            ProblemSubmissionResponse result = transactionTemplate.execute(status -> {
+                ProblemSubmissionResponse response = problemService.settleSubmission(job.userId(), scores);
+                if (!jobStore.complete(job.id(), workerId, response)) {
+                    // 가시성 타임아웃이 지나 다른 워커가 가져간 작업 (포인트 지급 롤백)
+                    throw new LeaseLostException(job.id());
+                }
+                return response;
+            });
+            // 롤백되지 않는 메모리 대기열 등록은 완료가 커밋된 뒤에만 (점유를 잃은 워커가 중복 등록하지 않도록)
+            problemService.scheduleRescoring(job.userId(), job.items(), scores);
+            local.ifPresent(submission -> submission.complete(result));
+            log.info("Scoring job {} completed by {} (attempt {})", job.id(), workerId, job.attempts());
+
+        } catch (LeaseLostException e) {
+            // 결과는 가져간 워커가 기록하므로 이 노드는 손대지 않음
+            log.warn("Scoring job {} lease expired before completion, left to the new owner", job.id());
+        } catch (Exception e) {
+            if (job.attempts() >= maxAttempts) {
+                log.error("Scoring job {} failed after {} attempts", job.id(), job.attempts(), e);
+                jobStore.fail(job.id(), workerId, e.getMessage());
+                local.ifPresent(submission -> submission.fail("채점 처리 중 오류가 발생했습니다."));
+                return;
+            }
+
+            Duration delay = backoff(job.attempts());
+            log.warn("Scoring job {} attempt {} failed, retrying in {}ms: {}",
+                    job.id(), job.attempts(), delay.toMillis(), e.getMessage());
+            jobStore.retryLater(job.id(), workerId, Instant.now().plus(delay), e.getMessage());
+        } finally {
+            renewal.cancel(false);
+        }
+    }
+
+    private void renewLease(ScoringJobStore.ClaimedJob job) {
+        try {
+            if (!jobStore.extendLease(job.id(), workerId, visibilityTimeout)) {
+                log.warn("Scoring job {} lease could not be extended (taken over by another worker)", job.id());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Scoring job {} lease renewal failed: {}", job.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * 지수 백오프 (상한 적용) + 절반 구간 jitter (여러 노드가 같은 시각에 몰려 재시도하지 않도록)
+     */
+    Duration backoff(int attempt) {
+        long exponential = backoffBase.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(backoffMax.toMillis(), exponential);
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    static String workerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        leaseRenewer.shutdownNow();
+    }
+
+    private static final class LeaseLostException extends RuntimeException {
+
+        private LeaseLostException(String jobId) {
+            super("채점 작업 점유가 만료되었습니다: " + jobId);
+        }
+    }
+}
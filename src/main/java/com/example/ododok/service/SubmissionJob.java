@@ -0,0 +1,160 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.AnswerScore;
+import com.example.ododok.dto.ProblemSubmissionResponse;
+import com.example.ododok.dto.SubmissionJobResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 비동기 제출 채점 작업 상태 (진행 상황을 SSE 구독자에게 전달)
+ */
+@Slf4j
+public class SubmissionJob {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    @Getter
+    private final String id;
+    @Getter
+    private final Long userId;
+    private final AnswerScore[] answers;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final StringBuilder commentDraft = new StringBuilder();
+    private final Instant createdAt = Instant.now();
+
+    private Status status = Status.PENDING;
+    private int completedAnswers;
+    private ProblemSubmissionResponse result;
+    private String error;
+
+    public SubmissionJob(String id, Long userId, int totalAnswers) {
+        this.id = id;
+        this.userId = userId;
+        this.answers = new AnswerScore[totalAnswers];
+    }
+
+    public synchronized void start() {
+        if (status == Status.PENDING) {
+            status = Status.RUNNING;
+        }
+    }
+
+    public synchronized void answerScored(int index, AnswerScore score) {
+        if (answers[index] == null) {
+            completedAnswers++;
+        }
+        answers[index] = score;
+        broadcast("answer", Map.of("index", index, "score", score));
+    }
+
+    /**
+     * 종합 코멘트 텍스트 조각 전달 (생성되는 대로 이어 붙여 표시)
+     */
+    public synchronized void commentChunk(String chunk) {
+        commentDraft.append(chunk);
+        broadcast("comment", Map.of("text", chunk));
+    }
+
+    public synchronized void complete(ProblemSubmissionResponse result) {
+        // 저장된 상태 동기화와 로컬 워커가 둘 다 끝낼 수 있으므로 처음 한 번만 반영
+        if (isFinished()) {
+            return;
+        }
+        this.result = result;
+        this.status = Status.COMPLETED;
+        broadcast("completed", result);
+        closeEmitters();
+    }
+
+    public synchronized void fail(String error) {
+        if (isFinished()) {
+            return;
+        }
+        this.error = error;
+        this.status = Status.FAILED;
+        broadcast("failed", Map.of("error", error));
+        closeEmitters();
+    }
+
+    /**
+     * SSE 구독 등록 (현재 상태를 먼저 전송, 이미 끝난 작업이면 즉시 종료)
+     */
+    public synchronized void subscribe(SseEmitter emitter) {
+        if (!send(emitter, "status", toResponse())) {
+            return;
+        }
+        if (isFinished()) {
+            emitter.complete();
+            return;
+        }
+        // 도중에 구독하면 지금까지 생성된 코멘트를 한 조각으로 먼저 전송
+        if (!commentDraft.isEmpty() && !send(emitter, "comment", Map.of("text", commentDraft.toString()))) {
+            return;
+        }
+
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+    }
+
+    /**
+     * 접수 후 threshold 이전에 만들어진 작업 (끝나지 않은 작업도 로컬 상태는 버림, 이후 조회는 scoring_jobs에서)
+     */
+    public synchronized boolean isExpired(Instant threshold) {
+        return createdAt.isBefore(threshold);
+    }
+
+    public synchronized SubmissionJobResponse toResponse() {
+        return new SubmissionJobResponse(
+                id,
+                status.name(),
+                answers.length,
+                completedAnswers,
+                new ArrayList<>(Arrays.asList(answers)),
+                result,
+                error
+        );
+    }
+
+    public synchronized boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    private void broadcast(String event, Object data) {
+        for (SseEmitter emitter : emitters) {
+            if (!send(emitter, event, data)) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 (job {}): {}", id, e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void closeEmitters() {
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.AnswerScore;
+import com.example.ododok.dto.ProblemSubmissionRequest;
+import com.example.ododok.dto.ProblemSubmissionResponse;
+import com.example.ododok.dto.ScoringItem;
+import com.example.ododok.dto.SubmissionJobResponse;
+import com.example.ododok.dto.SubmissionScores;
+import com.example.ododok.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SubmissionJobService {
+
+    private static final String FAILED_MESSAGE = "채점 처리 중 오류가 발생했습니다.";
+
+    private final ProblemService problemService;
+    private final AnswerScoringService answerScoringService;
+    private final ScoringAdmissionController admissionController;
+    private final ScoringJobStore jobStore;
+
+    // true면 작업을 scoring_jobs 테이블에 저장하고 ScoringJobWorker가 처리 (재시작/다른 노드에서도 이어서 채점)
+    @Value("${scoring.queue.enabled:false}")
+    private boolean durableQueue;
+
+    // 작업 큐에서 차례를 기다리는 작업이 이만큼 쌓이면 새 제출을 거절 (전체 노드 합계)
+    @Value("${scoring.queue.max-pending:1000}")
+    private long maxPendingJobs;
+
+    @Value("${scoring.jobs.ttl-minutes:30}")
+    private long jobTtlMinutes;
+
+    @Value("${scoring.jobs.sse-timeout-ms:180000}")
+    private long sseTimeoutMs;
+
+    private final Map<String, SubmissionJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 제출 검증 후 작업 등록, 채점은 백그라운드에서 진행
+     * 채점 대기열(작업 큐 사용 시 scoring_jobs 대기 작업)이 이미 가득 찼으면 접수하지 않고 바로 거절
+     */
+    public SubmissionJobResponse submit(ProblemSubmissionRequest request, Long userId) {
+        admissionController.checkCapacity();
+        if (durableQueue) {
+            admissionController.checkQueueBacklog(maxPendingJobs);
+        }
+        List<ScoringItem> items = problemService.prepareSubmission(request, userId);
+
+        SubmissionJob job = new SubmissionJob(UUID.randomUUID().toString(), userId, items.size());
+        jobs.put(job.getId(), job);
+        if (durableQueue) {
+            jobStore.enqueue(job.getId(), userId, items);
+        } else {
+            executor.execute(() -> run(job, items));
+        }
+
+        log.info("Submission job {} accepted for user {} ({} answers)", job.getId(), userId, items.size());
+        return job.toResponse();
+    }
+
+    public SubmissionJobResponse getJob(String jobId, Long userId) {
+        SubmissionJob job = jobs.get(jobId);
+        if (job != null && job.getUserId().equals(userId)) {
+            syncStoredState(job);
+            return job.toResponse();
+        }
+        return findStoredJob(jobId, userId);
+    }
+
+    /**
+     * 작업 진행 상황 SSE 구독 (answer/comment → completed/failed 순으로 이벤트 전송)
+     * 다른 노드가 접수한 작업이면 현재 상태만 한 번 보내고 종료 (클라이언트는 조회로 이어서 확인)
+     */
+    public SseEmitter subscribe(String jobId, Long userId) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        SubmissionJob job = jobs.get(jobId);
+        if (job != null && job.getUserId().equals(userId)) {
+            syncStoredState(job);
+            job.subscribe(emitter);
+            return emitter;
+        }
+
+        SubmissionJobResponse stored = findStoredJob(jobId, userId);
+        try {
+            emitter.send(SseEmitter.event().name("status").data(stored, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 이 노드에서 접수해 진행 상황을 전달받을 작업 (ScoringJobWorker용)
+     */
+    Optional<SubmissionJob> localJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * 다른 노드의 워커가 끝낸 작업을 로컬 상태에 반영 (구독 중인 SSE도 completed/failed로 종료)
+     * 끝나지 않은 로컬 작업을 한 번의 IN 조회로 확인
+     */
+    @Scheduled(fixedDelayString = "${scoring.queue.poll-interval-ms:1000}")
+    public void syncDurableJobs() {
+        if (!durableQueue) {
+            return;
+        }
+        List<String> unfinished = jobs.values().stream()
+                .filter(job -> !job.isFinished())
+                .map(SubmissionJob::getId)
+                .toList();
+        if (unfinished.isEmpty()) {
+            return;
+        }
+
+        Map<String, ScoringJobStore.StoredJob> stored;
+        try {
+            stored = jobStore.findAll(unfinished);
+        } catch (RuntimeException e) {
+            log.warn("채점 작업 상태 동기화 실패 ({}건): {}", unfinished.size(), e.getMessage());
+            return;
+        }
+        stored.forEach((jobId, storedJob) -> {
+            SubmissionJob job = jobs.get(jobId);
+            if (job == null) {
+                return;
+            }
+            try {
+                applyStoredState(job, storedJob);
+            } catch (RuntimeException e) {
+                log.warn("채점 작업 {} 상태 동기화 실패: {}", jobId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 접수 후 TTL이 지난 로컬 작업 제거 (작업 큐 사용 시 이후 조회는 scoring_jobs에서)
+     */
+    @Scheduled(fixedDelayString = "${scoring.jobs.cleanup-interval-ms:60000}")
+    public void evictExpiredJobs() {
+        Instant threshold = Instant.now().minus(Duration.ofMinutes(jobTtlMinutes));
+        jobs.values().removeIf(job -> job.isExpired(threshold));
+    }
+
+    /**
+     * 채점 차례가 오면 시작 (이미 접수한 작업이므로 대기 시간 SLO로 실패시키지 않음)
+     */
+    private void run(SubmissionJob job, List<ScoringItem> items) {
+        try {
+            ProblemSubmissionResponse result = admissionController.admitAccepted(() -> {
+                job.start();
+                SubmissionScores scores = answerScoringService.scoreSubmission(items, new AnswerScoringService.ScoreListener() {
+                    @Override
+                    public void onScored(int index, AnswerScore score) {
+                        job.answerScored(index, score);
+                    }
+
+                    @Override
+                    public void onCommentChunk(String chunk) {
+                        job.commentChunk(chunk);
+                    }
+                });
+
+                // 포인트 지급은 채점이 끝난 뒤 별도의 짧은 트랜잭션으로 처리
+                return problemService.completeSubmission(job.getUserId(), items, scores);
+            });
+            job.complete(result);
+
+        } catch (Exception e) {
+            log.error("Submission job {} failed", job.getId(), e);
+            job.fail(FAILED_MESSAGE);
+        }
+    }
+
+    /**
+     * 작업 큐 사용 시 아직 끝나지 않은 로컬 작업은 저장된 상태를 확인해 끝났으면 반영
+     */
+    private void syncStoredState(SubmissionJob job) {
+        if (!durableQueue || job.isFinished()) {
+            return;
+        }
+        jobStore.find(job.getId()).ifPresent(stored -> applyStoredState(job, stored));
+    }
+
+    private void applyStoredState(SubmissionJob job, ScoringJobStore.StoredJob stored) {
+        switch (SubmissionJob.Status.valueOf(stored.status())) {
+            case RUNNING -> job.start();
+            case COMPLETED -> job.complete(stored.result());
+            case FAILED -> job.fail(FAILED_MESSAGE);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 이 노드에 없는 작업은 scoring_jobs에서 조회 (답변별 점수는 없이 상태/결과만)
+     */
+    private SubmissionJobResponse findStoredJob(String jobId, Long userId) {
+        Optional<ScoringJobStore.StoredJob> stored = durableQueue
+                ? jobStore.find(jobId).filter(job -> job.userId().equals(userId))
+                : Optional.empty();
+        // 다른 사용자의 작업은 존재 여부도 노출하지 않음
+        if (stored.isEmpty()) {
+            throw new BusinessException("채점 작업을 찾을 수 없습니다.", "JOB_NOT_FOUND");
+        }
+
+        ScoringJobStore.StoredJob job = stored.get();
+        boolean completed = SubmissionJob.Status.COMPLETED.name().equals(job.status());
+        return new SubmissionJobResponse(
+                job.id(),
+                job.status(),
+                job.totalAnswers(),
+                completed ? job.totalAnswers() : 0,
+                new ArrayList<>(Collections.nCopies(job.totalAnswers(), null)),
+                job.result(),
+                SubmissionJob.Status.FAILED.name().equals(job.status()) ? FAILED_MESSAGE : null
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
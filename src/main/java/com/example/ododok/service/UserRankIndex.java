@@ -0,0 +1,245 @@
+package com.example.ododok.service;
+
+import com.example.ododok.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 랭킹 순서 (포인트 내림차순, userId 오름차순) 인덱스
+ * 구간 길이(span)를 함께 저장하는 skip list라 랭크 조회/갱신이 O(log n)이고,
+ * 포인트 지급마다 전체 사용자를 읽어 순서를 세지 않아도 됨
+ * 다른 노드의 지급이나 새로 가입한 사용자는 주기적인 재구성으로 반영
+ * 재구성은 전체 사용자를 읽는 무거운 작업이라 주기를 길게 두고(기본 1시간), 필요하면 rebuild()를 직접 호출
+ */
+@Slf4j
+@Component
+public class UserRankIndex {
+
+    private final UserRepository userRepository;
+
+    private final Object rebuildLock = new Object();
+
+    private SkipList ranks = new SkipList();
+    private Map<Long, Integer> pointsByUser = new HashMap<>();
+    // 재구성 중 들어온 갱신 (DB를 읽은 시점보다 나중일 수 있어 교체 직전에 새 인덱스에 다시 반영)
+    private Map<Long, Integer> pendingUpdates;
+
+    public UserRankIndex(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+
+        Gauge.builder("ranking.index.size", this, UserRankIndex::size)
+                .description("랭크 인덱스에 올라간 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * DB의 (userId, points)만 읽어 인덱스를 새로 만든 뒤 교체
+     * 읽는 동안 들어온 update()는 모아 두었다가 교체 직전에 새 인덱스에 다시 반영해 잃어버리지 않음
+     */
+    @PostConstruct
+    @Scheduled(initialDelayString = "${ranking.index.resync-interval-ms:3600000}",
+            fixedDelayString = "${ranking.index.resync-interval-ms:3600000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingUpdates = new LinkedHashMap<>();
+            }
+            try {
+                List<UserRepository.UserPoints> rows = userRepository.findAllPoints();
+                SkipList rebuilt = new SkipList();
+                Map<Long, Integer> points = new HashMap<>(rows.size() * 2);
+                for (UserRepository.UserPoints row : rows) {
+                    int value = row.getPoints() != null ? row.getPoints() : 0;
+                    points.put(row.getUserId(), value);
+                    rebuilt.insert(value, row.getUserId());
+                }
+
+                int replayed;
+                synchronized (this) {
+                    replayed = pendingUpdates.size();
+                    pendingUpdates.forEach((userId, value) -> apply(rebuilt, points, userId, value));
+                    ranks = rebuilt;
+                    pointsByUser = points;
+                }
+                log.debug("랭크 인덱스 재구성: 사용자 {}명 (재구성 중 갱신 {}건 반영)", rows.size(), replayed);
+            } finally {
+                synchronized (this) {
+                    pendingUpdates = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 사용자 포인트 반영 (인덱스에 없던 사용자는 추가)
+     */
+    public synchronized void update(Long userId, int points) {
+        apply(ranks, pointsByUser, userId, points);
+        if (pendingUpdates != null) {
+            pendingUpdates.put(userId, points);
+        }
+    }
+
+    /**
+     * 사용자의 포인트가 points일 때의 랭크 (1부터, 인덱스는 바꾸지 않음)
+     * 커밋 전 트랜잭션 안에서 새 포인트 기준 랭크를 미리 계산할 때 사용
+     */
+    public synchronized int rankOf(Long userId, int points) {
+        int ahead = ranks.countBefore(points, userId);
+        Integer previous = pointsByUser.get(userId);
+        // 이전 포인트로 올라가 있는 자기 자신은 앞선 사용자에서 제외
+        if (previous != null && SkipList.before(previous, userId, points, userId)) {
+            ahead--;
+        }
+        return ahead + 1;
+    }
+
+    synchronized int size() {
+        return ranks.size();
+    }
+
+    private static void apply(SkipList ranks, Map<Long, Integer> pointsByUser, Long userId, int points) {
+        Integer previous = pointsByUser.put(userId, points);
+        if (previous != null) {
+            if (previous == points) {
+                return;
+            }
+            ranks.delete(previous, userId);
+        }
+        ranks.insert(points, userId);
+    }
+
+    /**
+     * 다음 노드까지 건너뛰는 원소 수(span)를 레벨마다 기록한 skip list
+     * 탐색 경로의 span 합이 곧 앞선 원소 수
+     */
+    static final class SkipList {
+
+        private static final int MAX_LEVEL = 32;
+        private static final double P = 0.25;
+
+        private final Node head = new Node(0, 0L, MAX_LEVEL);
+        private int level = 1;
+        private int size;
+
+        static boolean before(int pointsA, long userIdA, int pointsB, long userIdB) {
+            return pointsA > pointsB || (pointsA == pointsB && userIdA < userIdB);
+        }
+
+        void insert(int points, long userId) {
+            Node[] update = new Node[MAX_LEVEL];
+            int[] rank = new int[MAX_LEVEL];
+            Node x = head;
+            for (int i = level - 1; i >= 0; i--) {
+                rank[i] = i == level - 1 ? 0 : rank[i + 1];
+                while (x.next[i] != null && before(x.next[i].points, x.next[i].userId, points, userId)) {
+                    rank[i] += x.span[i];
+                    x = x.next[i];
+                }
+                update[i] = x;
+            }
+
+            int nodeLevel = randomLevel();
+            if (nodeLevel > level) {
+                for (int i = level; i < nodeLevel; i++) {
+                    rank[i] = 0;
+                    update[i] = head;
+                    head.span[i] = size;
+                }
+                level = nodeLevel;
+            }
+
+            Node node = new Node(points, userId, nodeLevel);
+            for (int i = 0; i < nodeLevel; i++) {
+                node.next[i] = update[i].next[i];
+                update[i].next[i] = node;
+                node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+                update[i].span[i] = rank[0] - rank[i] + 1;
+            }
+            for (int i = nodeLevel; i < level; i++) {
+                update[i].span[i]++;
+            }
+            size++;
+        }
+
+        void delete(int points, long userId) {
+            Node[] update = new Node[MAX_LEVEL];
+            Node x = head;
+            for (int i = level - 1; i >= 0; i--) {
+                while (x.next[i] != null && before(x.next[i].points, x.next[i].userId, points, userId)) {
+                    x = x.next[i];
+                }
+                update[i] = x;
+            }
+
+            Node target = x.next[0];
+            if (target == null || target.points != points || target.userId != userId) {
+                return;
+            }
+            for (int i = 0; i < level; i++) {
+                if (update[i].next[i] == target) {
+                    update[i].span[i] += target.span[i] - 1;
+                    update[i].next[i] = target.next[i];
+                } else {
+                    update[i].span[i]--;
+                }
+            }
+            while (level > 1 && head.next[level - 1] == null) {
+                level--;
+            }
+            size--;
+        }
+
+        /**
+         * (points, userId)보다 앞에 있는 원소 수
+         */
+        int countBefore(int points, long userId) {
+            int count = 0;
+            Node x = head;
+            for (int i = level - 1; i >= 0; i--) {
+                while (x.next[i] != null && before(x.next[i].points, x.next[i].userId, points, userId)) {
+                    count += x.span[i];
+                    x = x.next[i];
+                }
+            }
+            return count;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private static int randomLevel() {
+            int nodeLevel = 1;
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (nodeLevel < MAX_LEVEL && random.nextDouble() < P) {
+                nodeLevel++;
+            }
+            return nodeLevel;
+        }
+
+        private static final class Node {
+            private final int points;
+            private final long userId;
+            private final Node[] next;
+            private final int[] span;
+
+            private Node(int points, long userId, int nodeLevel) {
+                this.points = points;
+                this.userId = userId;
+                this.next = new Node[nodeLevel];
+                this.span = new int[nodeLevel];
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.ododok.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 토큰 버킷 (LLM 호출 엔드포인트 요청 제한)
+ * 버킷은 키 해시로 나눈 stripe별 락으로 보호해 사용자 간 경합을 줄이고,
+ * 가득 찰 만큼 쉬었던 버킷은 주기적으로 제거해 메모리를 제한
+ */
+@Slf4j
+@Component
+public class UserRateLimiter {
+
+    private final boolean enabled;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long idleNanos;
+    private final Stripe[] stripes;
+
+    public UserRateLimiter(@Value("${ratelimit.user.enabled:true}") boolean enabled,
+                           @Value("${ratelimit.user.capacity:10}") int capacity,
+                           @Value("${ratelimit.user.refill-per-minute:10}") int refillPerMinute,
+                           @Value("${ratelimit.user.idle-timeout-minutes:10}") long idleTimeoutMinutes,
+                           @Value("${ratelimit.user.stripes:64}") int stripes,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / (double) Duration.ofMinutes(1).toNanos();
+        // 가득 차기 전에 버리면 토큰을 공짜로 채워주는 셈이므로 최소 완충 시간만큼은 보관
+        long refillNanos = (long) Math.ceil(capacity / tokensPerNano);
+        this.idleNanos = Math.max(Duration.ofMinutes(idleTimeoutMinutes).toNanos(), refillNanos);
+
+        // 키 해시를 마스크로 나누도록 2의 거듭제곱으로 올림
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+
+        Gauge.builder("ratelimit.user.buckets", this, UserRateLimiter::bucketCount)
+                .description("요청 제한 중인 사용자 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 하나 사용 (허용이면 Duration.ZERO, 거절이면 다음 토큰까지 남은 시간)
+     */
+    public Duration tryAcquire(String key) {
+        return tryAcquire(key, 1);
+    }
+
+    /**
+     * 토큰 cost만큼 사용 (가벼운 요청은 1보다 작게 차감)
+     */
+    public Duration tryAcquire(String key, double cost) {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+
+        long now = System.nanoTime();
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+            bucket.refill(now, capacity, tokensPerNano);
+            if (bucket.tokens >= cost) {
+                bucket.tokens -= cost;
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) Math.ceil((cost - bucket.tokens) / tokensPerNano));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ratelimit.user.cleanup-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                int before = stripe.buckets.size();
+                stripe.buckets.values().removeIf(bucket -> now - bucket.updatedAt >= idleNanos);
+                evicted += before - stripe.buckets.size();
+            }
+        }
+        if (evicted > 0) {
+            log.debug("유휴 요청 제한 버킷 {}개 제거", evicted);
+        }
+    }
+
+    int bucketCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.buckets.size();
+            }
+        }
+        return count;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+        private final Map<String, Bucket> buckets = new HashMap<>();
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+
+        private void refill(long now, double capacity, double tokensPerNano) {
+            tokens = Math.min(capacity, tokens + (now - updatedAt) * tokensPerNano);
+            updatedAt = now;
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.example.ododok.controller;
 import com.example.ododok.dto.FeedbackRequest;
 import com.example.ododok.dto.FeedbackResponse;
 import com.example.ododok.service.FeedbackService;
+import com.example.ododok.service.IdempotencyStore;
+import com.example.ododok.service.UserRateLimiter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,12 +18,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.http.MediaType;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(FeedbackController.class)
-@Import(com.example.ododok.config.SecurityConfig.class)
+@Import({com.example.ododok.config.SecurityConfig.class, IdempotencyStore.class, UserRateLimiter.class, SimpleMeterRegistry.class})
 class FeedbackControllerTest {
 
     @Autowired
@@ -159,4 +164,62 @@ class FeedbackControllerTest {
                 .andExpect(jsonPath("$.feedback").value("훌륭한 답변이에요! 호이스팅의 개념과 원리를 정확히 설명하셨네요."))
                 .andExpect(jsonPath("$.additionalTip").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    @DisplayName("피드백 제공 - 같은 Idempotency-Key 재시도는 저장된 응답 반환")
+    void provideFeedback_IdempotentRetry() throws Exception {
+        // given
+        FeedbackRequest request = new FeedbackRequest(
+            "호이스팅은 선언이 끌어올려지는 것입니다.",
+            "JavaScript에서 호이스팅이란?"
+        );
+
+        when(feedbackService.generateFeedback(any(FeedbackRequest.class)))
+                .thenReturn(new FeedbackResponse("좋은 답변이에요!", "TDZ도 알아보세요!"));
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/feedback")
+                    .header("Idempotency-Key", "retry-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.feedback").value("좋은 답변이에요!"));
+        }
+        verify(feedbackService, times(1)).generateFeedback(any(FeedbackRequest.class));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("피드백 제공 - 다른 호출자가 같은 Idempotency-Key를 보내도 서로 충돌하지 않음")
+    void provideFeedback_IdempotencyKeyScopedPerCaller() throws Exception {
+        // given
+        FeedbackRequest first = new FeedbackRequest("호이스팅은 선언이 끌어올려지는 것입니다.", "JavaScript에서 호이스팅이란?");
+        FeedbackRequest second = new FeedbackRequest("클로저는 외부 변수를 기억하는 함수입니다.", "클로저란?");
+
+        when(feedbackService.generateFeedback(any(FeedbackRequest.class)))
+                .thenReturn(new FeedbackResponse("좋은 답변이에요!", "더 알아보세요!"));
+
+        // when & then
+        mockMvc.perform(post("/feedback")
+                .with(req -> {
+                    req.setRemoteAddr("10.0.0.1");
+                    return req;
+                })
+                .header("Idempotency-Key", "shared-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(first)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/feedback")
+                .with(req -> {
+                    req.setRemoteAddr("10.0.0.2");
+                    return req;
+                })
+                .header("Idempotency-Key", "shared-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(second)))
+                .andExpect(status().isOk());
+        verify(feedbackService, times(2)).generateFeedback(any(FeedbackRequest.class));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.PersonalityFeedbackResponse;
+import com.example.ododok.dto.TechnicalFeedbackResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnswerPreScreenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AnswerPreScreener preScreener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        preScreener = new AnswerPreScreener(true, 2, 0.9, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("사전 판정 - 빈 답변은 0점")
+    void blankAnswer() {
+        // when
+        PersonalityFeedbackResponse response = preScreener.screenPersonality("지원 동기는?", "   ");
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getPointsAwarded()).isZero();
+        assertThat(response.getIsRelevant()).isFalse();
+    }
+
+    @Test
+    @DisplayName("사전 판정 - '모르겠습니다' 류 답변은 0점")
+    void stopPhraseAnswer() {
+        // when
+        PersonalityFeedbackResponse response = preScreener.screenPersonality("갈등 해결 경험은?", "잘 모르겠습니다...");
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getPointsAwarded()).isZero();
+    }
+
+    @Test
+    @DisplayName("사전 판정 - 질문을 그대로 옮긴 답변은 0점")
+    void copiedQuestion() {
+        // when
+        TechnicalFeedbackResponse response = preScreener.screenTechnical(
+                "프로세스와 스레드의 차이점은 무엇인가요?", "프로세스와 스레드의 차이점은 무엇인가요");
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getLogicScore()).isZero();
+    }
+
+    @Test
+    @DisplayName("사전 판정 - 정상 답변은 LLM 채점으로 넘김")
+    void normalAnswerPasses() {
+        // when
+        PersonalityFeedbackResponse response = preScreener.screenPersonality(
+                "지원 동기는?", "사용자 경험을 개선하는 서비스를 만들고 싶어 지원했습니다.");
+
+        // then
+        assertThat(response).isNull();
+    }
+
+    @Test
+    @DisplayName("사전 판정 - 생략한 LLM 호출 수 기록")
+    void countsSkippedCalls() {
+        // when
+        preScreener.screenPersonality("q", "모름");
+        preScreener.screenPersonality("q", "패스");
+
+        // then
+        assertThat(meterRegistry.get("scoring.prescreen.skipped")
+                .tag("reason", "stop_phrase")
+                .tag("type", "personality")
+                .counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("사전 판정 - 비활성화하면 모두 LLM 채점")
+    void disabled() {
+        // given
+        AnswerPreScreener disabled = new AnswerPreScreener(false, 2, 0.9, meterRegistry);
+
+        // when & then
+        assertThat(disabled.screenPersonality("q", "")).isNull();
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.AnswerScore;
+import com.example.ododok.dto.BatchScoringResult;
+import com.example.ododok.dto.PersonalityFeedbackResponse;
+import com.example.ododok.dto.ScoringItem;
+import com.example.ododok.dto.SubmissionScores;
+import com.example.ododok.dto.TechnicalFeedbackResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AnswerScoringServiceTest {
+
+    @Mock
+    private GeminiService geminiService;
+
+    @Mock
+    private ReferenceAnswerScorer referenceAnswerScorer;
+
+    private final AnswerPreScreener preScreener = new AnswerPreScreener(true, 2, 0.9, new SimpleMeterRegistry());
+
+    private final PromptBudget promptBudget = new PromptBudget(800, 2000, new SimpleMeterRegistry());
+
+    private AnswerScoringService answerScoringService;
+
+    @AfterEach
+    void tearDown() {
+        if (answerScoringService != null) {
+            answerScoringService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("병렬 채점 - 완료 순서와 무관하게 제출 순서대로 결과 반환")
+    void scoreAll_PreservesSubmissionOrder() {
+        // given
+        answerScoringService = new AnswerScoringService(geminiService, preScreener, referenceAnswerScorer, promptBudget, 8, 4, "parallel");
+
+        when(geminiService.generateTechnicalFeedback(eq("느린 질문"), anyString())).thenAnswer(inv -> {
+            Thread.sleep(200);
+            return new TechnicalFeedbackResponse(5, 5, 5, "느림");
+        });
+        when(geminiService.generateTechnicalFeedback(eq("빠른 질문"), anyString()))
+                .thenReturn(new TechnicalFeedbackResponse(2, 2, 2, "빠름"));
+        when(geminiService.generatePersonalityFeedback(anyString(), anyString()))
+                .thenReturn(new PersonalityFeedbackResponse(true, "연관", 10));
+
+        List<ScoringItem> items = List.of(
+                new ScoringItem(1L, "기술면접", "느린 질문", "답변1", null),
+                new ScoringItem(2L, "기술면접", "빠른 질문", "답변2", null),
+                new ScoringItem(3L, "인성면접", "인성 질문", "답변3", null)
+        );
+
+        // when
+        List<AnswerScore> scores = answerScoringService.scoreAll(items);
+
+        // then
+        assertThat(scores).extracting(AnswerScore::getQuestionId).containsExactly(1L, 2L, 3L);
+        assertThat(scores.get(0).getPointsEarned()).isEqualTo(50);
+        assertThat(scores.get(1).getPointsEarned()).isEqualTo(20);
+        assertThat(scores.get(2).getPointsEarned()).isEqualTo(10);
+        assertThat(scores.get(2).getLogicScore()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("병렬 채점 - 제출 단위 동시성 한도 준수")
+    void scoreAll_RespectsPerSubmissionConcurrency() {
+        // given
+        answerScoringService = new AnswerScoringService(geminiService, preScreener, referenceAnswerScorer, promptBudget, 8, 2, "parallel");
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(geminiService.generateTechnicalFeedback(anyString(), anyString())).thenAnswer(inv -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            return new TechnicalFeedbackResponse(3, 3, 3, "ok");
+        });
+
+        List<ScoringItem> items = List.of(
+                new ScoringItem(1L, "TECHNICAL", "q1", "a1", null),
+                new ScoringItem(2L, "TECHNICAL", "q2", "a2", null),
+                new ScoringItem(3L, "TECHNICAL", "q3", "a3", null),
+                new ScoringItem(4L, "TECHNICAL", "q4", "a4", null),
+                new ScoringItem(5L, "TECHNICAL", "q5", "a5", null)
+        );
+
+        // when
+        List<AnswerScore> scores = answerScoringService.scoreAll(items);
+
+        // then
+        assertThat(scores).hasSize(5);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("채점 - 알 수 없는 면접 타입은 기본값 지급")
+    void scoreAnswer_UnknownType() {
+        // given
+        answerScoringService = new AnswerScoringService(geminiService, preScreener, referenceAnswerScorer, promptBudget, 8, 2, "parallel");
+
+        // when
+        AnswerScore score = answerScoringService.scoreAnswer(new ScoringItem(1L, "기타", "q", "a", null));
+
+        // then
+        assertThat(score.getPointsEarned()).isEqualTo(100);
+        assertThat(score.getLogicScore()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("일괄 채점 - 검증 실패 항목만 개별 재채점")
+    void scoreSubmission_BatchFallsBackOnlyForInvalidItems() {
+        // given
+        answerScoringService = new AnswerScoringService(geminiService, preScreener, referenceAnswerScorer, promptBudget, 8, 2, "batch");
+
+        List<ScoringItem> items = List.of(
+                new ScoringItem(1L, "기술면접", "q1", "a1", null),
+                new ScoringItem(2L, "기술면접", "q2", "a2", null)
+        );
+        BatchScoringResult batch = new BatchScoringResult(
+                Arrays.asList(new BatchScoringResult.Item(new TechnicalFeedbackResponse(4, 4, 4, "좋음"), null), null),
+                "종합 코멘트"
+        );
+        when(geminiService.generateBatchScores(eq("기술면접"), anyList())).thenReturn(batch);
+        when(geminiService.generateTechnicalFeedback("q2", "a2"))
+                .thenReturn(new TechnicalFeedbackResponse(1, 1, 1, "재채점"));
+
+        // when
+        SubmissionScores scores = answerScoringService.scoreSubmission(items);
+
+        // then
+        assertThat(scores.getAnswers()).extracting(AnswerScore::getPointsEarned).containsExactly(40, 10);
+        assertThat(scores.getOverallComment()).isEqualTo("종합 코멘트");
+        verify(geminiService, never()).generateTechnicalFeedback("q1", "a1");
+        verify(geminiService, never()).generateOverallComment(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("일괄 채점 - 일괄 호출이 실패해도 로컬 판정 답변은 한 번만 전달하고 LLM 대상만 개별 채점")
+    void scoreSubmission_BatchFailureRescoresOnlyLlmItems() {
+        // given
+        answerScoringService = new AnswerScoringService(geminiService, preScreener, referenceAnswerScorer, promptBudget, 8, 2, "batch");
+
+        List<ScoringItem> items = List.of(
+                new ScoringItem(1L, "인성면접", "지원 동기는?", "모르겠습니다", null),
+                new ScoringItem(2L, "기술면접", "q2", "a2", null)
+        );
+        when(geminiService.generateBatchScores(eq("인성면접"), anyList())).thenThrow(new IllegalStateException("Gemini 오류"));
+        when(geminiService.generateTechnicalFeedback("q2", "a2"))
+                .thenReturn(new TechnicalFeedbackResponse(3, 3, 3, "개별"));
+
+        List<Integer> notified = new CopyOnWriteArrayList<>();
+
+        // when
+        SubmissionScores scores = answerScoringService.scoreSubmission(items, (index, score) -> notified.add(index));
+
+        // then
+        assertThat(scores.getAnswers()).extracting(AnswerScore::getPointsEarned).containsExactly(0, 30);
+        assertThat(notified).containsExactlyInAnyOrder(0, 1);
+        verify(geminiService, never()).generatePersonalityFeedback(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("일괄 채점 - 응답에 포함된 종합 코멘트도 구독자에게 코멘트 조각으로 전달")
+    void scoreSubmission_BatchCommentDeliveredAsChunk() {
+        // given
+        answerScoringService = new AnswerScoringService(geminiService, preScreener, referenceAnswerScorer, promptBudget, 8, 2, "batch");
+
+        List<ScoringItem> items = List.of(new ScoringItem(1L, "기술면접", "q1", "a1", null));
+        when(geminiService.generateBatchScores(eq("기술면접"), anyList())).thenReturn(new BatchScoringResult(
+                List.of(new BatchScoringResult.Item(new TechnicalFeedbackResponse(4, 4, 4, "좋음"), null)),
+                "종합 코멘트"));
+
+        List<String> chunks = new CopyOnWriteArrayList<>();
+        AnswerScoringService.ScoreListener listener = new AnswerScoringService.ScoreListener() {
+            @Override
+            public void onScored(int index, AnswerScore score) {
+            }
+
+            @Override
+            public void onCommentChunk(String chunk) {
+                chunks.add(chunk);
+            }
+        };
+
+        // when
+        SubmissionScores scores = answerScoringService.scoreSubmission(items, listener);
+
+        // then
+        assertThat(scores.getOverallComment()).isEqualTo("종합 코멘트");
+        assertThat(chunks).containsExactly("종합 코멘트");
+    }
+
+    @Test
+    @DisplayName("채점 - 사전 판정된 답변은 Gemini를 호출하지 않음")
+    void scoreAnswer_PreScreenedSkipsGemini() {
+        // given
+        answerScoringService = new AnswerScoringService(geminiService, preScreener, referenceAnswerScorer, promptBudget, 8, 2, "parallel");
+
+        // when
+        AnswerScore score = answerScoringService.scoreAnswer(new ScoringItem(1L, "인성면접", "지원 동기는?", "모르겠습니다", null));
+
+        // then
+        assertThat(score.getPointsEarned()).isZero();
+        verify(geminiService, never()).generatePersonalityFeedback(anyString(), anyString());
+    }
+}
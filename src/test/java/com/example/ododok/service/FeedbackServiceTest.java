@@ -2,16 +2,26 @@ package com.example.ododok.service;
 
 import com.example.ododok.dto.FeedbackRequest;
 import com.example.ododok.dto.FeedbackResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,13 +30,16 @@ class FeedbackServiceTest {
     @Mock
     private GeminiService geminiService;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+
     private FeedbackService feedbackService;
 
     private FeedbackRequest feedbackRequest;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        feedbackService = new FeedbackService(geminiService, meterRegistry);
         feedbackRequest = new FeedbackRequest(
             "호이스팅은 변수와 함수 선언이 스코프 최상단으로 끌어올려지는 것입니다.",
             "JavaScript에서 호이스팅이란?"
@@ -106,4 +119,44 @@ class FeedbackServiceTest {
         assertThat(response.getFeedback()).isNotBlank();
         assertThat(response.getAdditionalTip()).isNotBlank();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("피드백 생성 - 동시에 들어온 같은 요청은 Gemini 호출 한 번으로 처리")
+    void generateFeedback_ConcurrentDuplicates_Coalesced() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(geminiService.generateFeedback(anyString(), anyString())).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "좋은 답변이에요. 예시를 덧붙이면 더 좋습니다.";
+        });
+        when(geminiService.extractAdditionalTip(anyString())).thenReturn("예시를 덧붙여 보세요.");
+
+        // 공백/대소문자만 다른 요청도 같은 요청으로 취급
+        FeedbackRequest duplicate = new FeedbackRequest(
+                "  호이스팅은 변수와 함수 선언이   스코프 최상단으로 끌어올려지는 것입니다. ",
+                "javascript에서 호이스팅이란?"
+        );
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            // when
+            List<CompletableFuture<FeedbackResponse>> futures = IntStream.range(0, 5)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(
+                            () -> feedbackService.generateFeedback(i % 2 == 0 ? feedbackRequest : duplicate), executor))
+                    .toList();
+            for (int i = 0; i < 500 && meterRegistry.counter("feedback.singleflight.coalesced").count() < 4; i++) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            // then
+            assertThat(futures).allSatisfy(future ->
+                    assertThat(future.get(5, TimeUnit.SECONDS).getFeedback()).contains("좋은 답변"));
+            verify(geminiService, times(1)).generateFeedback(anyString(), anyString());
+            assertThat(meterRegistry.counter("feedback.singleflight.coalesced").count()).isEqualTo(4);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.GeminiResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiCircuitBreakerTest {
+
+    private GeminiCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        GeminiResilienceProperties properties = new GeminiResilienceProperties();
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumCalls(4);
+        properties.getCircuitBreaker().setFailureRateThreshold(50);
+        properties.getCircuitBreaker().setSlowCallThreshold(Duration.ofSeconds(1));
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMillis(100));
+        properties.getCircuitBreaker().setHalfOpenPermits(2);
+        circuitBreaker = new GeminiCircuitBreaker(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("서킷 - 실패율이 임계치를 넘으면 차단")
+    void opensWhenFailureRateExceeded() {
+        // when
+        circuitBreaker.onSuccess(Duration.ofMillis(10));
+        circuitBreaker.onSuccess(Duration.ofMillis(10));
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(GeminiCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("서킷 - 최소 호출 수 미만이면 차단하지 않음")
+    void staysClosedBelowMinimumCalls() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(GeminiCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("서킷 - 느린 호출도 실패로 집계")
+    void slowCallsCountAsFailures() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onSuccess(Duration.ofSeconds(2));
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(GeminiCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("서킷 - 차단 시간 후 시험 호출이 모두 성공하면 복구")
+    void halfOpenProbesCloseCircuit() throws Exception {
+        // given
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+        Thread.sleep(150);
+
+        // when & then
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onSuccess(Duration.ofMillis(10));
+        circuitBreaker.onSuccess(Duration.ofMillis(10));
+        assertThat(circuitBreaker.getState()).isEqualTo(GeminiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("서킷 - 시험 호출이 실패하면 다시 차단")
+    void halfOpenFailureReopens() throws Exception {
+        // given
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+        Thread.sleep(150);
+
+        // when
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(GeminiCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.GeminiResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiHedgePolicyTest {
+
+    private GeminiHedgePolicy createPolicy(int maxExtraPercent, int minSamples) {
+        GeminiResilienceProperties properties = new GeminiResilienceProperties();
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setMaxExtraPercent(maxExtraPercent);
+        properties.getHedge().setMinSamples(minSamples);
+        properties.getHedge().setMinDelay(Duration.ofMillis(50));
+        return new GeminiHedgePolicy(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("중복 요청 - 표본이 부족하면 대기 시간 없음")
+    void noDelayBeforeMinSamples() {
+        // given
+        GeminiHedgePolicy policy = createPolicy(10, 5);
+        policy.recordLatency(Duration.ofMillis(100));
+
+        // when & then
+        assertThat(policy.hedgeDelay()).isNull();
+    }
+
+    @Test
+    @DisplayName("중복 요청 - 최근 지연의 p95를 대기 시간으로 사용")
+    void delayIsObservedPercentile() {
+        // given
+        GeminiHedgePolicy policy = createPolicy(10, 20);
+        for (int i = 1; i <= 100; i++) {
+            policy.recordLatency(Duration.ofMillis(i * 10L));
+        }
+
+        // when & then
+        assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofMillis(950));
+    }
+
+    @Test
+    @DisplayName("중복 요청 - 대기 시간은 최소 대기 시간 이상")
+    void delayRespectsMinDelay() {
+        // given
+        GeminiHedgePolicy policy = createPolicy(10, 1);
+        policy.recordLatency(Duration.ofMillis(5));
+
+        // when & then
+        assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("중복 요청 - 추가 호출은 설정 비율을 넘지 않음")
+    void hedgesCappedByBudget() {
+        // given
+        GeminiHedgePolicy policy = createPolicy(10, 1);
+        policy.recordLatency(Duration.ofMillis(100));
+
+        // when
+        int hedges = 0;
+        for (int i = 0; i < 100; i++) {
+            policy.hedgeDelay();
+            if (policy.tryAcquireHedge()) {
+                hedges++;
+            }
+        }
+
+        // then
+        assertThat(hedges).isEqualTo(10);
+    }
+}
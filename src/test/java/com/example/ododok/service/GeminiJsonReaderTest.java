@@ -0,0 +1,130 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.ReferenceAnswerResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiJsonReaderTest {
+
+    @Test
+    @DisplayName("응답 파싱 - 다른 필드를 건너뛰고 첫 번째 후보 텍스트와 사용량 추출")
+    void readCandidate() {
+        // given
+        String body = """
+                {"promptFeedback":{"safetyRatings":[]},
+                 "candidates":[{"finishReason":"STOP","content":{"role":"model","parts":[{"text":"  {\\"a\\":1} "}]}},
+                               {"content":{"parts":[{"text":"second"}]}}],
+                 "usageMetadata":{"promptTokenCount":7,"candidatesTokenCount":3,"totalTokenCount":10,
+                                  "promptTokensDetails":[{"modality":"TEXT","tokenCount":7}]}}
+                """;
+
+        // when
+        GeminiJsonReader.Candidate candidate = GeminiJsonReader.readCandidate(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(candidate.text()).isEqualTo("{\"a\":1}");
+        assertThat(candidate.usage()).isEqualTo(new GeminiJsonReader.Usage(7, 3, 10));
+    }
+
+    @Test
+    @DisplayName("응답 파싱 - 후보가 없으면 예외")
+    void readCandidate_NoCandidates() {
+        // given
+        String body = "{\"promptFeedback\":{\"blockReason\":\"SAFETY\"}}";
+
+        // when & then
+        assertThatThrownBy(() -> GeminiJsonReader.readCandidate(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("응답 파싱 - 스트림 종료 이벤트는 텍스트 없이 사용량만")
+    void readChunk_UsageOnly() {
+        // when
+        GeminiJsonReader.Candidate chunk = GeminiJsonReader.readChunk(
+                "{\"candidates\":[{\"finishReason\":\"STOP\"}],\"usageMetadata\":{\"promptTokenCount\":5,\"totalTokenCount\":5}}");
+
+        // then
+        assertThat(chunk.text()).isNull();
+        assertThat(chunk.usage()).isEqualTo(new GeminiJsonReader.Usage(5, 0, 5));
+    }
+
+    @Test
+    @DisplayName("응답 파싱 - 코드블록으로 감싼 채점 결과도 읽음")
+    void readScore_FencedJson() {
+        // when
+        GeminiJsonReader.ScoreFields fields = GeminiJsonReader.readScore("""
+                ```json
+                {"logicScore":4,"accuracyScore":3,"clarityScore":5,"extra":{"x":[1,2]},"feedback":"좋음"}
+                ```""");
+
+        // then
+        assertThat(fields.logicScore()).isEqualTo(4);
+        assertThat(fields.accuracyScore()).isEqualTo(3);
+        assertThat(fields.clarityScore()).isEqualTo(5);
+        assertThat(fields.feedback()).isEqualTo("좋음");
+    }
+
+    @Test
+    @DisplayName("응답 파싱 - 타입이 맞지 않는 필드는 null")
+    void readScore_WrongTypes() {
+        // when
+        GeminiJsonReader.ScoreFields fields = GeminiJsonReader.readScore(
+                "{\"isRelevant\":\"yes\",\"pointsAwarded\":\"10\",\"feedback\":{\"text\":\"x\"}}");
+
+        // then
+        assertThat(fields.relevant()).isNull();
+        assertThat(fields.pointsAwarded()).isNull();
+        assertThat(fields.feedback()).isNull();
+    }
+
+    @Test
+    @DisplayName("응답 파싱 - 일괄 채점 결과와 종합 코멘트")
+    void readBatch() {
+        // when
+        GeminiJsonReader.BatchFields batch = GeminiJsonReader.readBatch("""
+                {"results":[{"index":0,"logicScore":3,"accuracyScore":3,"clarityScore":3,"feedback":"a"},
+                            {"index":1,"isRelevant":true,"pointsAwarded":10,"feedback":"b"}],
+                 "overallComment":"종합"}""");
+
+        // then
+        assertThat(batch.results()).hasSize(2);
+        assertThat(batch.results().get(1).relevant()).isTrue();
+        assertThat(batch.overallComment()).isEqualTo("종합");
+    }
+
+    @Test
+    @DisplayName("응답 파싱 - 채점 기준은 항목 수와 항목 길이를 제한해 저장 컬럼 안에 들어감")
+    void readReference_BoundsRubric() {
+        // given
+        String longItem = "가".repeat(1000);
+        StringBuilder rubric = new StringBuilder();
+        for (int i = 0; i < 30; i++) {
+            rubric.append(i == 0 ? "" : ",").append('"').append(longItem).append('"');
+        }
+
+        // when
+        ReferenceAnswerResponse response = GeminiJsonReader.readReference(
+                "{\"referenceAnswer\":\"모범 답안\",\"rubric\":[" + rubric + "]}");
+
+        // then
+        assertThat(response.getRubric().split("\n")).hasSize(GeminiJsonReader.MAX_RUBRIC_ITEMS);
+        assertThat(response.getRubric().length()).isLessThanOrEqualTo(4000);
+    }
+
+    @Test
+    @DisplayName("응답 파싱 - JSON이 아닌 응답은 예외")
+    void readScore_NotJson() {
+        // when & then
+        assertThatThrownBy(() -> GeminiJsonReader.readScore("평가할 수 없습니다."))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
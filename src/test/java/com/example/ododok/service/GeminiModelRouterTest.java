@@ -0,0 +1,71 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.GeminiRoutingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiModelRouterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GeminiModelRouter router;
+
+    @BeforeEach
+    void setUp() {
+        GeminiRoutingProperties properties = new GeminiRoutingProperties();
+        properties.getModels().put(GeminiTask.RELEVANCE, "gemini-2.5-flash-lite");
+        properties.getDownshiftModels().put(GeminiTask.TECHNICAL_SCORING, "gemini-2.5-flash-lite");
+        properties.getDownshift().setQueueDepthThreshold(5);
+        properties.getDownshift().setLatencyThreshold(Duration.ofSeconds(2));
+        properties.getDownshift().setCooldown(Duration.ofSeconds(30));
+
+        meterRegistry = new SimpleMeterRegistry();
+        router = new GeminiModelRouter(properties, "gemini-2.5-flash", meterRegistry);
+    }
+
+    @Test
+    @DisplayName("모델 라우팅 - 용도별 설정 모델, 없으면 기본 모델")
+    void routesByTask() {
+        // when & then
+        assertThat(router.route(GeminiTask.RELEVANCE, 0)).isEqualTo("gemini-2.5-flash-lite");
+        assertThat(router.route(GeminiTask.TECHNICAL_SCORING, 0)).isEqualTo("gemini-2.5-flash");
+        assertThat(router.route(GeminiTask.OVERALL_COMMENT, 0)).isEqualTo("gemini-2.5-flash");
+    }
+
+    @Test
+    @DisplayName("모델 라우팅 - 대기열이 길면 전환 모델로 바꾸고 cooldown 동안 유지")
+    void downshiftsOnQueueDepth() {
+        // when
+        String overloaded = router.route(GeminiTask.TECHNICAL_SCORING, 5);
+        String afterDrain = router.route(GeminiTask.TECHNICAL_SCORING, 0);
+
+        // then
+        assertThat(overloaded).isEqualTo("gemini-2.5-flash-lite");
+        assertThat(afterDrain).isEqualTo("gemini-2.5-flash-lite");
+        assertThat(meterRegistry.get("gemini.routing.downshifted").gauge().value()).isEqualTo(1);
+        // 전환 모델이 없는 용도는 그대로
+        assertThat(router.route(GeminiTask.OVERALL_COMMENT, 5)).isEqualTo("gemini-2.5-flash");
+    }
+
+    @Test
+    @DisplayName("모델 라우팅 - 기본 모델 평균 지연이 기준을 넘으면 전환, 응답 모델 기록")
+    void downshiftsOnLatency() {
+        // given
+        router.recordResponse(GeminiTask.TECHNICAL_SCORING, "gemini-2.5-flash", Duration.ofSeconds(3));
+
+        // when
+        String model = router.route(GeminiTask.TECHNICAL_SCORING, 0);
+
+        // then
+        assertThat(model).isEqualTo("gemini-2.5-flash-lite");
+        assertThat(meterRegistry.get("gemini.routing.served")
+                .tag("task", "technical_scoring")
+                .tag("model", "gemini-2.5-flash")
+                .counter().count()).isEqualTo(1);
+    }
+}
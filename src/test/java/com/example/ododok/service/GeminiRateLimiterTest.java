@@ -0,0 +1,86 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.GeminiResilienceProperties;
+import com.example.ododok.exception.GeminiUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiRateLimiterTest {
+
+    private GeminiRateLimiter createLimiter(int requestsPerMinute, int burst, int tokensPerMinute, Duration maxWait) {
+        GeminiResilienceProperties properties = new GeminiResilienceProperties();
+        properties.getRateLimit().setRequestsPerMinute(requestsPerMinute);
+        properties.getRateLimit().setBurst(burst);
+        properties.getRateLimit().setTokensPerMinute(tokensPerMinute);
+        properties.getRateLimit().setMaxWait(maxWait);
+        return new GeminiRateLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("호출 한도 - 버스트 범위 안에서는 대기 없이 통과")
+    void acquireWithinBurst() {
+        // given
+        GeminiRateLimiter limiter = createLimiter(60, 3, 0, Duration.ofMillis(10));
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(GeminiRateLimiter.Priority.SCORING, "prompt");
+        }
+        assertThatThrownBy(() -> limiter.acquire(GeminiRateLimiter.Priority.SCORING, "prompt"))
+                .isInstanceOf(GeminiUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("호출 한도 - 토큰 한도를 넘으면 대기 시간 초과로 거절")
+    void rejectWhenTokenBudgetExceeded() {
+        // given
+        GeminiRateLimiter limiter = createLimiter(600, 10, 100, Duration.ofMillis(50));
+        String prompt = "가".repeat(150);
+
+        // when
+        limiter.acquire(GeminiRateLimiter.Priority.SCORING, prompt);
+
+        // then
+        assertThatThrownBy(() -> limiter.acquire(GeminiRateLimiter.Priority.SCORING, prompt))
+                .isInstanceOf(GeminiUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("호출 한도 - 대기 중에는 인터랙티브 요청이 종합 코멘트보다 먼저 처리")
+    void interactiveBeforeOverallComment() throws Exception {
+        // given
+        GeminiRateLimiter limiter = createLimiter(120, 1, 0, Duration.ofSeconds(5));
+        limiter.acquire(GeminiRateLimiter.Priority.SCORING, "prompt");
+        List<GeminiRateLimiter.Priority> completed = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        // when
+        CompletableFuture<Void> comment = CompletableFuture.runAsync(() -> {
+            limiter.acquire(GeminiRateLimiter.Priority.OVERALL_COMMENT, "prompt");
+            completed.add(GeminiRateLimiter.Priority.OVERALL_COMMENT);
+        }, executor);
+        Thread.sleep(100);
+        CompletableFuture<Void> interactive = CompletableFuture.runAsync(() -> {
+            limiter.acquire(GeminiRateLimiter.Priority.INTERACTIVE, "prompt");
+            completed.add(GeminiRateLimiter.Priority.INTERACTIVE);
+        }, executor);
+        CompletableFuture.allOf(comment, interactive).join();
+        executor.shutdown();
+
+        // then
+        assertThat(completed).containsExactly(
+                GeminiRateLimiter.Priority.INTERACTIVE,
+                GeminiRateLimiter.Priority.OVERALL_COMMENT);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.GeminiResilienceProperties;
+import com.example.ododok.config.GeminiRoutingProperties;
+import com.example.ododok.config.HttpClientProperties;
+import com.example.ododok.config.LlmCacheProperties;
+import com.example.ododok.dto.BatchScoringResult;
+import com.example.ododok.dto.ScoringItem;
+import com.example.ododok.dto.TechnicalFeedbackResponse;
+import com.example.ododok.support.FakeGeminiServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 Gemini 대역 서버를 상대로 프롬프트 → 응답 파싱 → 대체 채점 경로 검증
+ */
+class GeminiServiceFakeServerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private FakeGeminiServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private GeminiService createService(String baseUrl) {
+        return createService(baseUrl, new GeminiResilienceProperties());
+    }
+
+    private GeminiService createService(String baseUrl, GeminiResilienceProperties resilienceProperties) {
+        GeminiClient geminiClient = new GeminiClient(
+                new RestTemplate(),
+                HttpClient.newHttpClient(),
+                new HttpClientProperties(),
+                new ObjectMapper(),
+                new GeminiCircuitBreaker(resilienceProperties, meterRegistry),
+                new GeminiRateLimiter(resilienceProperties, meterRegistry),
+                new GeminiHedgePolicy(resilienceProperties, meterRegistry),
+                new GeminiModelRouter(new GeminiRoutingProperties(), "gemini-2.5-flash", meterRegistry),
+                new GeminiUsageMetrics(meterRegistry),
+                resilienceProperties);
+        ReflectionTestUtils.setField(geminiClient, "apiKey", "test-gemini-key");
+        ReflectionTestUtils.setField(geminiClient, "baseUrl", baseUrl);
+
+        LlmCacheProperties cacheProperties = new LlmCacheProperties();
+        cacheProperties.setEnabled(false);
+        LlmResponseCache cache = new LlmResponseCache(cacheProperties, Optional.empty(), new ObjectMapper(), meterRegistry);
+        return new GeminiService(geminiClient, cache, new DegradedScorer(), new PromptBudget(800, 2000, meterRegistry), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("대역 서버 - 기술 면접 채점 JSON 파싱")
+    void technicalFeedback() {
+        // given
+        server = new FakeGeminiServer().seed(1L).start();
+        GeminiService geminiService = createService(server.baseUrl());
+
+        // when
+        TechnicalFeedbackResponse response = geminiService.generateTechnicalFeedback("HashMap이란?", "해시 테이블 기반 자료구조");
+
+        // then
+        assertThat(response.isDegraded()).isFalse();
+        assertThat(response.getLogicScore()).isBetween(0, 5);
+        assertThat(server.requestCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("gemini.call.tokens")
+                .tag("task", "technical_scoring")
+                .tag("model", "gemini-2.5-flash")
+                .tag("type", "prompt")
+                .summary().totalAmount()).isPositive();
+        assertThat(meterRegistry.get("gemini.call.latency")
+                .tag("task", "technical_scoring")
+                .tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대역 서버 - 일괄 채점은 모든 항목을 검증 통과")
+    void batchScores() {
+        // given
+        server = new FakeGeminiServer().seed(2L).start();
+        GeminiService geminiService = createService(server.baseUrl());
+        List<ScoringItem> items = List.of(
+                new ScoringItem(1L, "TECHNICAL", "Q1", "A1", null),
+                new ScoringItem(2L, "PERSONALITY", "Q2", "A2", null),
+                new ScoringItem(3L, "TECHNICAL", "Q3", "A3", null));
+
+        // when
+        BatchScoringResult result = geminiService.generateBatchScores("기술면접", items);
+
+        // then
+        assertThat(result.getItems()).doesNotContainNull();
+        assertThat(result.getItems().get(1).getPersonality()).isNotNull();
+        assertThat(result.getOverallComment()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("대역 서버 - 종합 코멘트를 조각 단위로 스트리밍하고 TTFB 기록")
+    void streamOverallComment() {
+        // given
+        server = new FakeGeminiServer().start();
+        GeminiService geminiService = createService(server.baseUrl());
+        List<String> chunks = new CopyOnWriteArrayList<>();
+
+        // when
+        String comment = geminiService.streamOverallComment("기술면접", "Q: Q1\nA: A1\n\n", chunks::add);
+
+        // then
+        assertThat(chunks).hasSize(server.streamedChunkCount()).hasSizeGreaterThan(1);
+        assertThat(String.join("", chunks).trim()).isEqualTo(comment);
+        assertThat(meterRegistry.get("scoring.overall_comment.ttfb").tag("source", "gemini").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대역 서버 - 종합 코멘트 스트림 실패 시 임시 코멘트를 한 조각으로 전달")
+    void streamOverallCommentFallsBack() {
+        // given
+        server = new FakeGeminiServer().errorRate(1.0).start();
+        GeminiService geminiService = createService(server.baseUrl());
+        List<String> chunks = new CopyOnWriteArrayList<>();
+
+        // when
+        String comment = geminiService.streamOverallComment("기술면접", "Q: Q1\nA: A1\n\n", chunks::add);
+
+        // then
+        assertThat(chunks).containsExactly(comment);
+        assertThat(meterRegistry.get("scoring.overall_comment.ttfb").tag("source", "degraded").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대역 서버 - 중복 요청이 이기면 원 요청을 취소하고 hedge_lost로 기록")
+    void hedgeCancelsLoser() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        server = new FakeGeminiServer()
+                .latency(random -> calls.incrementAndGet() == 2 ? Duration.ofSeconds(2) : Duration.ZERO)
+                .start();
+        GeminiResilienceProperties resilienceProperties = new GeminiResilienceProperties();
+        resilienceProperties.getHedge().setEnabled(true);
+        resilienceProperties.getHedge().setMinSamples(1);
+        resilienceProperties.getHedge().setMaxExtraPercent(100);
+        resilienceProperties.getHedge().setMinDelay(Duration.ofMillis(100));
+        GeminiService geminiService = createService(server.baseUrl(), resilienceProperties);
+        geminiService.generateTechnicalFeedback("워밍업", "지연 표본");
+
+        // when
+        TechnicalFeedbackResponse response = geminiService.generateTechnicalFeedback("HashMap이란?", "해시 테이블 기반 자료구조");
+
+        // then
+        assertThat(response.isDegraded()).isFalse();
+        assertThat(server.requestCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("gemini.hedge.won").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("gemini.call.latency")
+                .tag("task", "technical_scoring")
+                .tag("outcome", "hedge_lost")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대역 서버 - 오류 응답이면 임시 채점으로 대체")
+    void errorFallsBackToDegraded() {
+        // given
+        server = new FakeGeminiServer().errorRate(1.0).start();
+        GeminiService geminiService = createService(server.baseUrl());
+
+        // when
+        TechnicalFeedbackResponse response = geminiService.generateTechnicalFeedback("질문", "답변");
+
+        // then
+        assertThat(response.isDegraded()).isTrue();
+        assertThat(server.errorCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대역 서버 - 깨진 JSON이면 임시 채점으로 대체")
+    void malformedFallsBackToDegraded() {
+        // given
+        server = new FakeGeminiServer().malformedRate(1.0).start();
+        GeminiService geminiService = createService(server.baseUrl());
+
+        // when
+        TechnicalFeedbackResponse response = geminiService.generateTechnicalFeedback("질문", "답변");
+
+        // then
+        assertThat(response.isDegraded()).isTrue();
+        assertThat(server.malformedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대역 서버 - 녹화한 응답을 그대로 재생")
+    void recordAndReplay(@TempDir Path recordings) {
+        // given
+        FakeGeminiServer upstream = new FakeGeminiServer().seed(3L).start();
+        server = new FakeGeminiServer().recordFrom(upstream.baseUrl(), recordings).start();
+        TechnicalFeedbackResponse recorded = createService(server.baseUrl())
+                .generateTechnicalFeedback("질문", "답변");
+        server.close();
+        upstream.close();
+
+        // when
+        server = new FakeGeminiServer().seed(99L).replayFrom(recordings).start();
+        TechnicalFeedbackResponse replayed = createService(server.baseUrl())
+                .generateTechnicalFeedback("질문", "답변");
+
+        // then
+        assertThat(replayed).isEqualTo(recorded);
+        assertThat(server.replayMissCount()).isZero();
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.FeedbackRequest;
+import com.example.ododok.dto.FeedbackResponse;
+import com.example.ododok.exception.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new IdempotencyStore(new ObjectMapper(), Optional.empty(), 2, 60, 1000, 120000, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 같은 키/같은 요청은 한 번만 실행하고 저장된 응답 반환")
+    void replaysStoredResponse() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        FeedbackRequest request = new FeedbackRequest("답변", "질문");
+
+        // when
+        FeedbackResponse first = store.execute("feedback", "k1", request, FeedbackResponse.class,
+                () -> new FeedbackResponse("피드백 " + calls.incrementAndGet(), "팁"));
+        FeedbackResponse second = store.execute("feedback", "k1", new FeedbackRequest("답변", "질문"), FeedbackResponse.class,
+                () -> new FeedbackResponse("피드백 " + calls.incrementAndGet(), "팁"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("idempotency.replayed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 같은 키로 다른 요청을 보내면 거부")
+    void rejectsReusedKey() {
+        // given
+        store.execute("feedback", "k1", new FeedbackRequest("답변", "질문"), String.class, () -> "ok");
+
+        // when & then
+        assertThatThrownBy(() -> store.execute("feedback", "k1", new FeedbackRequest("다른 답변", "질문"), String.class, () -> "ok"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+        // scope가 다르면 별개의 키
+        assertThat(store.execute("problem:1", "k1", new FeedbackRequest("다른 답변", "질문"), String.class, () -> "other"))
+                .isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 실패한 요청은 저장하지 않아 재시도 시 다시 실행")
+    void failureIsNotStored() {
+        // given
+        FeedbackRequest request = new FeedbackRequest("답변", "질문");
+
+        // when
+        assertThatThrownBy(() -> store.execute("feedback", "k1", request, String.class, () -> {
+            throw new IllegalStateException("Gemini 오류");
+        })).isInstanceOf(IllegalStateException.class);
+        String retried = store.execute("feedback", "k1", request, String.class, () -> "ok");
+
+        // then
+        assertThat(retried).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 처리 중인 같은 키 요청은 첫 요청 결과를 기다림")
+    void concurrentDuplicateWaits() throws Exception {
+        // given
+        FeedbackRequest request = new FeedbackRequest("답변", "질문");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> store.execute("feedback", "k1", request, String.class, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        started.await();
+
+        // when
+        CompletableFuture<String> duplicate = CompletableFuture.supplyAsync(
+                () -> store.execute("feedback", "k1", request, String.class, () -> "second"));
+        release.countDown();
+
+        // then
+        assertThat(first.get()).isEqualTo("first");
+        assertThat(duplicate.get()).isEqualTo("first");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 처리 중인 요청을 기다리다 대기 시간을 넘으면 처리 중 오류")
+    void waiterTimesOut() throws Exception {
+        // given
+        IdempotencyStore shortWait = new IdempotencyStore(new ObjectMapper(), Optional.empty(), 10, 60, 50, 120000, meterRegistry);
+        FeedbackRequest request = new FeedbackRequest("답변", "질문");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> shortWait.execute("feedback", "k1", request, String.class, () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        started.await();
+
+        // when & then
+        assertThatThrownBy(() -> shortWait.execute("feedback", "k1", request, String.class, () -> "second"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "IDEMPOTENCY_KEY_IN_PROGRESS");
+        release.countDown();
+        assertThat(first.get()).isEqualTo("first");
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - Error로 끝난 요청도 정리해 재시도 시 다시 실행")
+    void errorIsCleanedUp() {
+        // given
+        FeedbackRequest request = new FeedbackRequest("답변", "질문");
+
+        // when
+        assertThatThrownBy(() -> store.execute("feedback", "k1", request, String.class, () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+        String retried = store.execute("feedback", "k1", request, String.class, () -> "ok");
+
+        // then
+        assertThat(retried).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 공용 저장소에서 선점한 노드만 실행하고 응답 저장")
+    void sharedStoreClaimsAndCompletes() {
+        // given
+        IdempotencyKeyStore keyStore = mock(IdempotencyKeyStore.class);
+        when(keyStore.tryClaim(anyString(), anyString(), any(Instant.class))).thenReturn(true);
+        IdempotencyStore shared = new IdempotencyStore(new ObjectMapper(), Optional.of(keyStore), 10, 60, 1000, 120000, meterRegistry);
+
+        // when
+        String response = shared.execute("feedback", "k1", new FeedbackRequest("답변", "질문"), String.class, () -> "ok");
+
+        // then
+        assertThat(response).isEqualTo("ok");
+        verify(keyStore).complete(anyString(), eq("\"ok\""), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 다른 노드가 저장한 응답을 그대로 반환")
+    void sharedStoreReplaysOtherNode() throws Exception {
+        // given
+        FeedbackRequest request = new FeedbackRequest("답변", "질문");
+        String fingerprint = HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(new ObjectMapper().writeValueAsBytes(request)));
+        IdempotencyKeyStore keyStore = mock(IdempotencyKeyStore.class);
+        when(keyStore.tryClaim(anyString(), anyString(), any(Instant.class))).thenReturn(false);
+        when(keyStore.find(anyString())).thenReturn(Optional.of(new IdempotencyKeyStore.StoredKey(
+                fingerprint, "{\"feedback\":\"저장된 피드백\",\"additionalTip\":\"팁\"}")));
+        IdempotencyStore shared = new IdempotencyStore(new ObjectMapper(), Optional.of(keyStore), 10, 60, 1000, 120000, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        FeedbackResponse response = shared.execute("feedback", "k1", request, FeedbackResponse.class,
+                () -> new FeedbackResponse("피드백 " + calls.incrementAndGet(), "팁"));
+
+        // then
+        assertThat(response.getFeedback()).isEqualTo("저장된 피드백");
+        assertThat(calls.get()).isZero();
+        assertThat(meterRegistry.get("idempotency.replayed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key - 최대 개수를 넘으면 오래된 키부터 제거, 키가 없으면 매번 실행")
+    void boundedAndOptional() {
+        // given
+        store.execute("feedback", "k1", "a", String.class, () -> "1");
+        store.execute("feedback", "k2", "b", String.class, () -> "2");
+        store.execute("feedback", "k3", "c", String.class, () -> "3");
+
+        // when
+        String evicted = store.execute("feedback", "k1", "a", String.class, () -> "again");
+        String withoutKey = store.execute("feedback", null, "a", String.class, () -> "direct");
+
+        // then
+        assertThat(evicted).isEqualTo("again");
+        assertThat(withoutKey).isEqualTo("direct");
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.AnswerScore;
+import com.example.ododok.dto.InterviewSessionRequest;
+import com.example.ododok.dto.InterviewSessionResponse;
+import com.example.ododok.dto.ProblemSubmissionRequest;
+import com.example.ododok.dto.ProblemSubmissionResponse;
+import com.example.ododok.dto.ScoringItem;
+import com.example.ododok.dto.SubmissionScores;
+import com.example.ododok.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InterviewSessionServiceTest {
+
+    @Mock
+    private ProblemService problemService;
+
+    @Mock
+    private AnswerScoringService answerScoringService;
+
+    @Spy
+    private ScoringAdmissionController admissionController =
+            new ScoringAdmissionController(4, 4, 1000, new SimpleMeterRegistry());
+
+    @InjectMocks
+    private InterviewSessionService interviewSessionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(interviewSessionService, "sessionTtlMinutes", 60L);
+        ReflectionTestUtils.setField(interviewSessionService, "maxActiveSessions", 100);
+        ReflectionTestUtils.setField(interviewSessionService, "maxSessionsPerUser", 2);
+        ReflectionTestUtils.setField(interviewSessionService, "maxAnswersPerQuestion", 2);
+
+        lenient().when(problemService.prepareSession(List.of(1L, 2L), 1L)).thenReturn(List.of(
+                new ScoringItem(1L, "기술면접", "q1", null, null),
+                new ScoringItem(2L, "기술면접", "q2", null, null)));
+        lenient().when(answerScoringService.supplyAsync(any())).thenAnswer(inv -> {
+            Supplier<?> task = inv.getArgument(0);
+            return CompletableFuture.supplyAsync(task);
+        });
+        lenient().when(answerScoringService.supplyAsync(any(ScoringAdmissionController.class), any())).thenAnswer(inv -> {
+            ScoringAdmissionController admission = inv.getArgument(0);
+            Supplier<?> task = inv.getArgument(1);
+            return CompletableFuture.supplyAsync(() -> admission.admit(task));
+        });
+    }
+
+    @Test
+    @DisplayName("면접 세션 - 답변마다 미리 채점하고 최종 제출은 집계만")
+    void submit_UsesPrecomputedScores() {
+        // given
+        when(answerScoringService.scoreAnswer(any(ScoringItem.class))).thenAnswer(inv -> {
+            ScoringItem item = inv.getArgument(0);
+            return new AnswerScore(item.getQuestionId(), 4, 4, 4, 40, item.getAnswer());
+        });
+        when(answerScoringService.generateOverallComment(anyList())).thenReturn("종합");
+        ProblemSubmissionResponse result = new ProblemSubmissionResponse(
+                "제출 완료! 포인트가 지급되었습니다 🎉", 4, 4, 4, 4, 80, 1, "종합");
+        when(problemService.completeSubmission(eq(1L), anyList(), any(SubmissionScores.class))).thenReturn(result);
+
+        InterviewSessionResponse session = interviewSessionService.create(
+                new InterviewSessionRequest(List.of(1L, 2L)), 1L);
+
+        // when
+        interviewSessionService.submitAnswer(session.getSessionId(), 1L, answer(2L, "a2"));
+        interviewSessionService.submitAnswer(session.getSessionId(), 1L, answer(1L, "a1"));
+        verify(answerScoringService, timeout(1000)).generateOverallComment(anyList());
+
+        ProblemSubmissionResponse submitted = interviewSessionService.submit(session.getSessionId(), 1L);
+
+        // then
+        assertThat(submitted.getPointsEarned()).isEqualTo(80);
+        verify(answerScoringService, times(2)).scoreAnswer(any(ScoringItem.class));
+        verify(answerScoringService, times(1)).generateOverallComment(anyList());
+
+        ArgumentCaptor<SubmissionScores> scores = ArgumentCaptor.forClass(SubmissionScores.class);
+        verify(problemService).completeSubmission(eq(1L), anyList(), scores.capture());
+        assertThat(scores.getValue().getAnswers()).extracting(AnswerScore::getFeedback).containsExactly("a1", "a2");
+        assertThat(scores.getValue().getOverallComment()).isEqualTo("종합");
+
+        InterviewSessionResponse completed = interviewSessionService.get(session.getSessionId(), 1L);
+        assertThat(completed.getStatus()).isEqualTo("SUBMITTED");
+        assertThat(completed.getScoredCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("면접 세션 - 이미 제출한 세션은 다시 제출/답변할 수 없음")
+    void submit_Twice() {
+        // given
+        when(answerScoringService.scoreAnswer(any(ScoringItem.class)))
+                .thenReturn(new AnswerScore(1L, 3, 3, 3, 30, "f"));
+        when(answerScoringService.generateOverallComment(anyList())).thenReturn("종합");
+        InterviewSessionResponse session = interviewSessionService.create(
+                new InterviewSessionRequest(List.of(1L, 2L)), 1L);
+        interviewSessionService.submitAnswer(session.getSessionId(), 1L, answer(1L, "a1"));
+        interviewSessionService.submit(session.getSessionId(), 1L);
+
+        // when & then
+        assertThatThrownBy(() -> interviewSessionService.submit(session.getSessionId(), 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("이미 제출된 세션입니다.");
+        assertThatThrownBy(() -> interviewSessionService.submitAnswer(session.getSessionId(), 1L, answer(2L, "a2")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("이미 제출된 세션입니다.");
+        // 제출된 세션의 답변은 채점을 시작하지 않음
+        verify(answerScoringService, times(1)).scoreAnswer(any(ScoringItem.class));
+        verify(admissionController, times(1)).admit(any());
+        verify(problemService, times(1)).completeSubmission(eq(1L), anyList(), any(SubmissionScores.class));
+    }
+
+    @Test
+    @DisplayName("면접 세션 - 세션에 없는 문제나 다른 사용자의 세션은 거부")
+    void submitAnswer_Rejected() {
+        // given
+        InterviewSessionResponse session = interviewSessionService.create(
+                new InterviewSessionRequest(List.of(1L, 2L)), 1L);
+
+        // when & then
+        assertThatThrownBy(() -> interviewSessionService.submitAnswer(session.getSessionId(), 1L, answer(3L, "a3")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("세션에 없는 문제입니다.");
+        assertThatThrownBy(() -> interviewSessionService.get(session.getSessionId(), 2L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("면접 세션을 찾을 수 없습니다.");
+        verify(answerScoringService, never()).scoreAnswer(any(ScoringItem.class));
+    }
+
+    @Test
+    @DisplayName("면접 세션 - 사용자별 한도를 넘으면 가장 오래 쓰지 않은 본인 세션을 정리")
+    void create_EvictsOldestSessionOfSameUser() throws InterruptedException {
+        // given
+        InterviewSessionResponse first = interviewSessionService.create(new InterviewSessionRequest(List.of(1L, 2L)), 1L);
+        InterviewSessionResponse second = interviewSessionService.create(new InterviewSessionRequest(List.of(1L, 2L)), 1L);
+        Thread.sleep(5);
+        interviewSessionService.get(first.getSessionId(), 1L);
+
+        // when
+        InterviewSessionResponse third = interviewSessionService.create(new InterviewSessionRequest(List.of(1L, 2L)), 1L);
+
+        // then
+        assertThat(interviewSessionService.get(first.getSessionId(), 1L).getSessionId()).isEqualTo(first.getSessionId());
+        assertThat(interviewSessionService.get(third.getSessionId(), 1L).getSessionId()).isEqualTo(third.getSessionId());
+        assertThatThrownBy(() -> interviewSessionService.get(second.getSessionId(), 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("면접 세션을 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("면접 세션 - 같은 문제 재답변은 한도까지만 채점")
+    void submitAnswer_LimitsReanswers() {
+        // given
+        when(answerScoringService.scoreAnswer(any(ScoringItem.class)))
+                .thenReturn(new AnswerScore(1L, 3, 3, 3, 30, "f"));
+        InterviewSessionResponse session = interviewSessionService.create(
+                new InterviewSessionRequest(List.of(1L, 2L)), 1L);
+        interviewSessionService.submitAnswer(session.getSessionId(), 1L, answer(1L, "a1"));
+        interviewSessionService.submitAnswer(session.getSessionId(), 1L, answer(1L, "a1 수정"));
+
+        // when & then
+        assertThatThrownBy(() -> interviewSessionService.submitAnswer(session.getSessionId(), 1L, answer(1L, "a1 다시")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo("TOO_MANY_ANSWERS");
+        verify(answerScoringService, timeout(1000).times(2)).scoreAnswer(any(ScoringItem.class));
+    }
+
+    private ProblemSubmissionRequest.Answer answer(Long questionId, String text) {
+        ProblemSubmissionRequest.Answer answer = new ProblemSubmissionRequest.Answer();
+        answer.setQuestionId(questionId);
+        answer.setAnswer(text);
+        answer.setTimeSpent(60);
+        return answer;
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.ododok.service;
+
+import com.example.ododok.config.LlmCacheProperties;
+import com.example.ododok.dto.TechnicalFeedbackResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmResponseCacheTest {
+
+    private static final String MODEL = "gemini-2.5-flash";
+
+    private LlmResponseCache createCache(int maxEntries, Duration ttl) {
+        LlmCacheProperties properties = new LlmCacheProperties();
+        properties.setMaxEntries(maxEntries);
+        properties.setTtl(ttl);
+        return new LlmResponseCache(properties, Optional.empty(), new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("캐시 - 공백/대소문자만 다른 답변은 같은 결과 재사용")
+    void getOrLoad_NormalizedAnswerHit() {
+        // given
+        LlmResponseCache cache = createCache(100, Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        TechnicalFeedbackResponse first = cache.getOrLoad("technical:v1", MODEL, "질문", "  HashMap은   해시 테이블 ",
+                TechnicalFeedbackResponse.class, () -> {
+                    loads.incrementAndGet();
+                    return loaded(new TechnicalFeedbackResponse(4, 4, 4, "좋음"));
+                });
+        TechnicalFeedbackResponse second = cache.getOrLoad("technical:v1", MODEL, "질문", "hashmap은 해시 테이블",
+                TechnicalFeedbackResponse.class, () -> {
+                    loads.incrementAndGet();
+                    return loaded(new TechnicalFeedbackResponse(0, 0, 0, "다름"));
+                });
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("캐시 - 템플릿 버전이 다르면 별도 항목")
+    void getOrLoad_TemplateVersionSeparatesEntries() {
+        // given
+        LlmResponseCache cache = createCache(100, Duration.ofMinutes(10));
+
+        // when
+        cache.getOrLoad("technical:v1", MODEL, "질문", "답변", String.class, () -> loaded("v1"));
+        String result = cache.getOrLoad("technical:v2", MODEL, "질문", "답변", String.class, () -> loaded("v2"));
+
+        // then
+        assertThat(result).isEqualTo("v2");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시 - 채점 기준이 바뀌면 별도 항목")
+    void getOrLoad_ContextSeparatesEntries() {
+        // given
+        LlmResponseCache cache = createCache(100, Duration.ofMinutes(10));
+
+        // when
+        cache.getOrLoad(LlmResponseCache.withContext("technical-rubric:v1", "- 기준 A"), MODEL, "질문", "답변",
+                String.class, () -> loaded("old"));
+        String result = cache.getOrLoad(LlmResponseCache.withContext("technical-rubric:v1", "- 기준 B"), MODEL, "질문", "답변",
+                String.class, () -> loaded("new"));
+
+        // then
+        assertThat(result).isEqualTo("new");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시 - 모델이 다르면 별도 항목")
+    void getOrLoad_ModelSeparatesEntries() {
+        // given
+        LlmResponseCache cache = createCache(100, Duration.ofMinutes(10));
+
+        // when
+        cache.getOrLoad("t", MODEL, "q", "a", String.class, () -> loaded("flash"));
+        String result = cache.getOrLoad("t", "gemini-2.5-pro", "q", "a", String.class,
+                () -> new LlmResponseCache.Loaded<>("pro", "gemini-2.5-pro"));
+
+        // then
+        assertThat(result).isEqualTo("pro");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시 - 과부하로 다른 모델이 응답하면 저장하지 않음")
+    void getOrLoad_DoesNotCacheDownshiftedReply() {
+        // given
+        LlmResponseCache cache = createCache(100, Duration.ofMinutes(10));
+
+        // when
+        String downshifted = cache.getOrLoad("t", MODEL, "q", "a", String.class,
+                () -> new LlmResponseCache.Loaded<>("lite", "gemini-2.5-flash-lite"));
+        String reloaded = cache.getOrLoad("t", MODEL, "q", "a", String.class, () -> loaded("flash"));
+
+        // then
+        assertThat(downshifted).isEqualTo("lite");
+        assertThat(reloaded).isEqualTo("flash");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 - 최대 크기 초과 시 가장 오래 사용되지 않은 항목 제거")
+    void getOrLoad_EvictsLeastRecentlyUsed() {
+        // given
+        LlmResponseCache cache = createCache(2, Duration.ofMinutes(10));
+        cache.getOrLoad("t", MODEL, "q", "a1", String.class, () -> loaded("1"));
+        cache.getOrLoad("t", MODEL, "q", "a2", String.class, () -> loaded("2"));
+        cache.getOrLoad("t", MODEL, "q", "a1", String.class, () -> loaded("reloaded"));
+
+        // when
+        cache.getOrLoad("t", MODEL, "q", "a3", String.class, () -> loaded("3"));
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getOrLoad("t", MODEL, "q", "a1", String.class, () -> loaded("reloaded"))).isEqualTo("1");
+        assertThat(cache.getOrLoad("t", MODEL, "q", "a2", String.class, () -> loaded("reloaded"))).isEqualTo("reloaded");
+    }
+
+    @Test
+    @DisplayName("캐시 - TTL 만료 후 다시 로드")
+    void getOrLoad_ExpiresAfterTtl() throws Exception {
+        // given
+        LlmResponseCache cache = createCache(100, Duration.ofMillis(50));
+        cache.getOrLoad("t", MODEL, "q", "a", String.class, () -> loaded("old"));
+
+        // when
+        Thread.sleep(100);
+        String result = cache.getOrLoad("t", MODEL, "q", "a", String.class, () -> loaded("new"));
+
+        // then
+        assertThat(result).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("캐시 - 로드 실패는 캐시하지 않음")
+    void getOrLoad_DoesNotCacheFailures() {
+        // given
+        LlmResponseCache cache = createCache(100, Duration.ofMinutes(10));
+
+        // when & then
+        assertThatThrownBy(() -> cache.getOrLoad("t", MODEL, "q", "a", String.class, () -> {
+            throw new IllegalStateException("Gemini 오류");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    private static <T> LlmResponseCache.Loaded<T> loaded(T value) {
+        return new LlmResponseCache.Loaded<>(value, MODEL);
+    }
+}
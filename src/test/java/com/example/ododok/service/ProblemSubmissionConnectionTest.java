@@ -0,0 +1,106 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.TechnicalFeedbackResponse;
+import com.example.ododok.entity.Question;
+import com.example.ododok.entity.User;
+import com.example.ododok.entity.UserRole;
+import com.example.ododok.repository.QuestionRepository;
+import com.example.ododok.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 문제 제출 시 Gemini 호출 동안 DB 커넥션을 점유하지 않는지 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProblemSubmissionConnectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @MockitoBean
+    private GeminiService geminiService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @AfterEach
+    void tearDown() {
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("문제 제출 - LLM 호출 중 활성 커넥션 0개, 포인트는 이후 반영")
+    void submitProblem_HoldsNoConnectionDuringLlmCalls() throws Exception {
+        // given
+        User user = userRepository.save(new User(null, "conn@example.com", "커넥션", null, null,
+                "google", "conn-1", UserRole.USER, 0, LocalDateTime.now(), LocalDateTime.now()));
+
+        Question question = new Question();
+        question.setTitle("기술면접");
+        question.setQuestion("트랜잭션 격리 수준이란?");
+        question.setCreatedBy(user.getUserId());
+        question = questionRepository.save(question);
+
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        List<Integer> activeConnectionsDuringLlm = new CopyOnWriteArrayList<>();
+
+        when(geminiService.generateTechnicalFeedback(anyString(), anyString())).thenAnswer(inv -> {
+            activeConnectionsDuringLlm.add(hikari.getHikariPoolMXBean().getActiveConnections());
+            return new TechnicalFeedbackResponse(5, 5, 5, "좋음");
+        });
+        when(geminiService.generateOverallComment(anyString(), anyString())).thenAnswer(inv -> {
+            activeConnectionsDuringLlm.add(hikari.getHikariPoolMXBean().getActiveConnections());
+            return "종합 코멘트";
+        });
+        when(jwtService.extractUserId("valid-token")).thenReturn(user.getUserId());
+
+        String body = """
+                {"answers":[{"questionId":%d,"answer":"격리 수준은 동시성 제어 방식입니다.","timeSpent":60}],
+                 "totalTimeSpent":60,"submittedAt":"2025-09-23T10:30:00Z"}
+                """.formatted(question.getId());
+
+        // when
+        mockMvc.perform(post("/problem")
+                        .header("Authorization", "Bearer valid-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(activeConnectionsDuringLlm).hasSize(2).containsOnly(0);
+        assertThat(userRepository.findById(user.getUserId()).orElseThrow().getPoints()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.ScoringItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PromptBudgetTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PromptBudget promptBudget;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        promptBudget = new PromptBudget(100, 150, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("프롬프트 예산 - 예산 이내 답변은 원문 그대로")
+    void shortAnswerUnchanged() {
+        // given
+        String answer = "프로세스는 독립된 메모리 공간을 가집니다.";
+
+        // when
+        String fitted = promptBudget.fitAnswer(answer);
+
+        // then
+        assertThat(fitted).isSameAs(answer);
+        assertThat(meterRegistry.counter("scoring.prompt.truncated", "part", "answer").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("프롬프트 예산 - 긴 답변은 앞/끝만 남기고 예산 안으로 축약")
+    void longAnswerTruncated() {
+        // given
+        String answer = "결론부터 말하면 스레드가 가볍습니다. " + "중간 설명입니다. ".repeat(100) + "마지막 정리입니다.";
+
+        // when
+        String fitted = promptBudget.fitAnswer(answer);
+
+        // then
+        assertThat(PromptBudget.estimateTokens(fitted)).isLessThanOrEqualTo(100);
+        assertThat(fitted).startsWith("결론부터 말하면").endsWith("마지막 정리입니다.").contains(PromptBudget.OMISSION);
+        assertThat(meterRegistry.counter("scoring.prompt.truncated", "part", "answer").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프롬프트 예산 - 종합 코멘트 요약은 답변 수로 예산을 나눠 축약")
+    void summaryCompacted() {
+        // given
+        List<ScoringItem> items = List.of(
+                new ScoringItem(1L, "기술", "질문1", "가".repeat(500), null),
+                new ScoringItem(2L, "기술", "질문2", "짧은 답변", null));
+
+        // when
+        String summary = promptBudget.summarize(items);
+
+        // then
+        assertThat(summary).contains("Q: 질문1", "Q: 질문2", "A: 짧은 답변", PromptBudget.OMISSION);
+        assertThat(summary.length()).isLessThan(300);
+        assertThat(meterRegistry.counter("scoring.prompt.truncated", "part", "summary").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프롬프트 템플릿 - 자리표시자만 치환하고 JSON 예시 중괄호는 유지")
+    void templateRendersPlaceholders() {
+        // given
+        PromptTemplate template = PromptTemplate.compile("""
+                Q: {question}
+                A: {answer}
+                {"score":N} {question}
+                """);
+
+        // when
+        String prompt = template.render("질문", null);
+
+        // then
+        assertThat(template.names()).containsExactly("question", "answer");
+        assertThat(prompt).isEqualTo("Q: 질문\nA: \n{\"score\":N} 질문\n");
+        assertThatThrownBy(() -> template.render("질문"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
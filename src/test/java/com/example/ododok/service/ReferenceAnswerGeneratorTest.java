@@ -0,0 +1,151 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.ReferenceAnswerResponse;
+import com.example.ododok.entity.Question;
+import com.example.ododok.repository.QuestionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceAnswerGeneratorTest {
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private QuestionRubricStore questionRubricStore;
+
+    @Mock
+    private GeminiService geminiService;
+
+    @Mock
+    private GeminiCircuitBreaker circuitBreaker;
+
+    private ReferenceAnswerGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new ReferenceAnswerGenerator(questionRepository, questionRubricStore, geminiService,
+                circuitBreaker, new SimpleMeterRegistry(), 3, 300000);
+    }
+
+    @Test
+    @DisplayName("사전 생성 - 체크포인트 이후 문제부터 모범 답안/채점 기준 저장")
+    void generateNext_ResumesFromCheckpoint() {
+        // given
+        when(circuitBreaker.getState()).thenReturn(GeminiCircuitBreaker.State.CLOSED);
+        when(questionRubricStore.tryAcquireLease(eq(ReferenceAnswerGenerator.JOB_NAME), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        when(questionRubricStore.loadCheckpoint(ReferenceAnswerGenerator.JOB_NAME)).thenReturn(10L);
+        when(questionRepository.findPregenerationTargets(10L, 3, PageRequest.of(0, 20)))
+                .thenReturn(List.of(createQuestion(11L), createQuestion(12L)));
+        when(geminiService.generateReferenceAnswer(anyString(), anyString(), any()))
+                .thenReturn(new ReferenceAnswerResponse("모범 답안", "- 기준1\n- 기준2"));
+
+        // when
+        generator.generateNext();
+
+        // then
+        verify(questionRubricStore).saveRubric(11L, "- 기준1\n- 기준2");
+        verify(questionRubricStore).saveReferenceAnswerIfAbsent(11L, "모범 답안");
+        verify(questionRubricStore).saveCheckpoint(ReferenceAnswerGenerator.JOB_NAME, 11L);
+    }
+
+    @Test
+    @DisplayName("사전 생성 - 실패한 문제는 실패 횟수를 남기고 체크포인트 진행")
+    void generateNext_SkipsFailedQuestion() {
+        // given
+        when(circuitBreaker.getState()).thenReturn(GeminiCircuitBreaker.State.CLOSED);
+        when(questionRubricStore.tryAcquireLease(eq(ReferenceAnswerGenerator.JOB_NAME), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        when(questionRubricStore.loadCheckpoint(ReferenceAnswerGenerator.JOB_NAME)).thenReturn(0L);
+        when(questionRepository.findPregenerationTargets(0L, 3, PageRequest.of(0, 20)))
+                .thenReturn(List.of(createQuestion(1L)));
+        when(geminiService.generateReferenceAnswer(anyString(), anyString(), any()))
+                .thenThrow(new IllegalStateException("Invalid reference answer from Gemini"));
+
+        // when
+        generator.generateNext();
+
+        // then
+        verify(questionRubricStore, never()).saveRubric(anyLong(), anyString());
+        verify(questionRubricStore).recordFailure(1L);
+        verify(questionRubricStore).saveCheckpoint(ReferenceAnswerGenerator.JOB_NAME, 1L);
+    }
+
+    @Test
+    @DisplayName("사전 생성 - 한 바퀴를 돌면 점유를 풀고 더 이상 조회하지 않음")
+    void generateNext_StopsAfterSinglePass() {
+        // given
+        when(circuitBreaker.getState()).thenReturn(GeminiCircuitBreaker.State.CLOSED);
+        when(questionRubricStore.tryAcquireLease(eq(ReferenceAnswerGenerator.JOB_NAME), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        when(questionRubricStore.loadCheckpoint(ReferenceAnswerGenerator.JOB_NAME)).thenReturn(30L);
+        when(questionRepository.findPregenerationTargets(30L, 3, PageRequest.of(0, 20))).thenReturn(List.of());
+
+        // when
+        generator.generateNext();
+        generator.generateNext();
+
+        // then
+        verify(questionRubricStore).saveCheckpoint(ReferenceAnswerGenerator.JOB_NAME, 0L);
+        verify(questionRubricStore).releaseLease(eq(ReferenceAnswerGenerator.JOB_NAME), anyString());
+        verify(questionRepository).findPregenerationTargets(anyLong(), anyInt(), any());
+        verify(geminiService, never()).generateReferenceAnswer(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("사전 생성 - 다른 노드가 실행 중이면 쉬어감")
+    void generateNext_SkipsWhenLeaseHeldElsewhere() {
+        // given
+        when(circuitBreaker.getState()).thenReturn(GeminiCircuitBreaker.State.CLOSED);
+        when(questionRubricStore.tryAcquireLease(eq(ReferenceAnswerGenerator.JOB_NAME), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        // when
+        generator.generateNext();
+
+        // then
+        verify(questionRepository, never()).findPregenerationTargets(anyLong(), anyInt(), any());
+        verify(geminiService, never()).generateReferenceAnswer(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("사전 생성 - Gemini 장애 중에는 쉬어감")
+    void generateNext_PausesWhileCircuitOpen() {
+        // given
+        when(circuitBreaker.getState()).thenReturn(GeminiCircuitBreaker.State.OPEN);
+
+        // when
+        generator.generateNext();
+
+        // then
+        verify(geminiService, never()).generateReferenceAnswer(anyString(), anyString(), any());
+    }
+
+    private Question createQuestion(Long id) {
+        Question question = new Question();
+        question.setId(id);
+        question.setTitle("기술면접");
+        question.setQuestion("질문 " + id);
+        return question;
+    }
+}
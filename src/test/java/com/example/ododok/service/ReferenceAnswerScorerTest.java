@@ -0,0 +1,93 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.ScoringItem;
+import com.example.ododok.dto.TechnicalFeedbackResponse;
+import com.example.ododok.repository.QuestionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceAnswerScorerTest {
+
+    private static final String REFERENCE = "프로세스는 독립된 메모리 공간을 가지는 실행 단위이고, 스레드는 프로세스 안에서 메모리를 공유하는 실행 흐름입니다.";
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    private ReferenceAnswerScorer scorer;
+
+    @BeforeEach
+    void setUp() {
+        scorer = new ReferenceAnswerScorer(questionRepository, true, 0.75, 0, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("모범 답안 채점 - 모범 답안과 거의 같으면 로컬 채점")
+    void highSimilarityScoredLocally() {
+        // given
+        when(questionRepository.findAllReferenceAnswers()).thenReturn(List.of(REFERENCE, "인덱스는 조회 성능을 높이는 자료구조입니다."));
+
+        // when
+        TechnicalFeedbackResponse response = scorer.score(new ScoringItem(1L, "기술면접", "프로세스와 스레드 차이?",
+                "프로세스는 독립된 메모리 공간을 가진 실행 단위이고 스레드는 프로세스 안에서 메모리를 공유하는 실행 흐름입니다", REFERENCE));
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getAccuracyScore()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("모범 답안 채점 - 애매한 답변은 Gemini로 넘김")
+    void ambiguousAnswerEscalated() {
+        // given
+        when(questionRepository.findAllReferenceAnswers()).thenReturn(List.of(REFERENCE));
+
+        // when
+        TechnicalFeedbackResponse response = scorer.score(new ScoringItem(1L, "기술면접", "프로세스와 스레드 차이?",
+                "스레드가 더 가볍고 컨텍스트 스위칭 비용이 적습니다.", REFERENCE));
+
+        // then
+        assertThat(response).isNull();
+    }
+
+    @Test
+    @DisplayName("모범 답안 채점 - 모범 답안이 없으면 Gemini로 넘김")
+    void noReferenceEscalated() {
+        // when
+        TechnicalFeedbackResponse response = scorer.score(new ScoringItem(1L, "기술면접", "q", "답변입니다", null));
+
+        // then
+        assertThat(response).isNull();
+    }
+
+    @Test
+    @DisplayName("모범 답안 채점 - 코퍼스는 한 번만 읽고 모범 답안 벡터는 문제별로 재사용")
+    void corpusLoadedOnce() {
+        // given
+        when(questionRepository.findAllReferenceAnswers()).thenReturn(List.of(REFERENCE));
+
+        // when
+        double first = scorer.similarity(1L, REFERENCE, REFERENCE);
+        double second = scorer.similarity(1L, REFERENCE, "스레드");
+        double changed = scorer.similarity(1L, "스레드", "스레드");
+
+        // then
+        assertThat(first).isCloseTo(1.0, within(1e-9));
+        assertThat(second).isLessThan(first);
+        assertThat(changed).isCloseTo(1.0, within(1e-9));
+        verify(questionRepository, times(1)).findAllReferenceAnswers();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.ododok.service;
+
+import com.example.ododok.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScoringAdmissionControllerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 공용 풀은 코어 수에 따라 스레드가 하나뿐일 수 있어 대기 중인 작업이 서로를 막지 않도록 별도 실행
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Test
+    @DisplayName("채점 수락 - 동시 채점 수 안에서는 바로 실행")
+    void admitsWithinCapacity() {
+        // given
+        ScoringAdmissionController controller = new ScoringAdmissionController(2, 2, 1000, meterRegistry);
+
+        // when
+        String result = controller.admit(() -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(meterRegistry.get("scoring.admission.wait").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("scoring.admission.active").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("채점 수락 - 대기열이 가득 차면 429 코드로 바로 거절")
+    void shedsWhenQueueFull() throws Exception {
+        // given: 채점 1건 진행 중, 대기열 1건 대기 중
+        ScoringAdmissionController controller = new ScoringAdmissionController(1, 1, 5000, meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> controller.admit(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        }), executor);
+        running.await();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> controller.admit(() -> "queued"), executor);
+        while (controller.queueDepth() < 1) {
+            Thread.sleep(1);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> controller.admit(() -> "shed"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(e -> {
+                    RateLimitExceededException shed = (RateLimitExceededException) e;
+                    assertThat(shed.getErrorCode()).isEqualTo("SCORING_QUEUE_FULL");
+                    assertThat(shed.getRetryAfterSeconds()).isPositive();
+                });
+        assertThatThrownBy(controller::checkCapacity).isInstanceOf(RateLimitExceededException.class);
+
+        release.countDown();
+        assertThat(first.get()).isEqualTo("first");
+        assertThat(queued.get()).isEqualTo("queued");
+        assertThat(meterRegistry.get("scoring.admission.shed").tag("reason", "queue_full").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("채점 수락 - 대기 시간 SLO 안에 차례가 오지 않으면 503 코드로 거절")
+    void shedsOnQueueTimeout() throws Exception {
+        // given
+        ScoringAdmissionController controller = new ScoringAdmissionController(1, 10, 50, meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> controller.admit(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        }), executor);
+        running.await();
+
+        // when & then
+        assertThatThrownBy(() -> controller.admit(() -> "late"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting(e -> ((RateLimitExceededException) e).getErrorCode())
+                .isEqualTo("SCORING_QUEUE_TIMEOUT");
+        assertThat(controller.queueDepth()).isZero();
+
+        release.countDown();
+        assertThat(first.get()).isEqualTo("first");
+    }
+
+    @Test
+    @DisplayName("채점 수락 - 이미 접수한 비동기 작업은 SLO를 넘겨도 차례를 기다려 실행")
+    void admitAcceptedWaitsPastSlo() throws Exception {
+        // given
+        ScoringAdmissionController controller = new ScoringAdmissionController(1, 10, 50, meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> controller.admit(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        }), executor);
+        running.await();
+
+        // when
+        CompletableFuture<String> accepted = CompletableFuture.supplyAsync(
+                () -> controller.admitAccepted(() -> "accepted"), executor);
+        Thread.sleep(150);
+        release.countDown();
+
+        // then
+        assertThat(first.get()).isEqualTo("first");
+        assertThat(accepted.get()).isEqualTo("accepted");
+        assertThat(controller.queueDepth()).isZero();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
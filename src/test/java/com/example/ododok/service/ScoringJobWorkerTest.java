@@ -0,0 +1,177 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.AnswerScore;
+import com.example.ododok.dto.ProblemSubmissionResponse;
+import com.example.ododok.dto.ScoringItem;
+import com.example.ododok.dto.SubmissionScores;
+import com.example.ododok.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScoringJobWorkerTest {
+
+    @Mock
+    private ScoringJobStore jobStore;
+
+    @Mock
+    private AnswerScoringService answerScoringService;
+
+    @Mock
+    private ProblemService problemService;
+
+    @Mock
+    private SubmissionJobService submissionJobService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ScoringAdmissionController admissionController =
+            new ScoringAdmissionController(4, 4, 1000, new SimpleMeterRegistry());
+
+    private ScoringJobWorker worker;
+
+    private final List<ScoringItem> items = List.of(new ScoringItem(1L, "기술면접", "q", "a", null));
+
+    @BeforeEach
+    void setUp() {
+        worker = new ScoringJobWorker(jobStore, answerScoringService, problemService, submissionJobService,
+                admissionController, new TransactionTemplate(transactionManager), true, 2, 60_000, 3, 1000, 8000, 24);
+        lenient().when(submissionJobService.localJob("job-1")).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 큐 - 채점 후 포인트 지급과 완료 표시")
+    void process_Completes() {
+        // given
+        AnswerScore score = new AnswerScore(1L, 4, 4, 4, 40, "좋음");
+        ProblemSubmissionResponse result = new ProblemSubmissionResponse(
+                "제출 완료! 포인트가 지급되었습니다 🎉", 4, 4, 4, 4, 40, 1, "종합");
+        when(answerScoringService.scoreSubmission(eq(items), any(AnswerScoringService.ScoreListener.class)))
+                .thenReturn(new SubmissionScores(List.of(score), "종합"));
+        when(problemService.settleSubmission(eq(1L), any(SubmissionScores.class))).thenReturn(result);
+        when(jobStore.complete(eq("job-1"), anyString(), eq(result))).thenReturn(true);
+
+        // when
+        worker.process(new ScoringJobStore.ClaimedJob("job-1", 1L, items, 1));
+
+        // then
+        verify(jobStore).complete(eq("job-1"), anyString(), eq(result));
+        verify(problemService).scheduleRescoring(eq(1L), eq(items), any(SubmissionScores.class));
+        verify(jobStore, never()).retryLater(anyString(), anyString(), any(Instant.class), anyString());
+    }
+
+    @Test
+    @DisplayName("작업 큐 - 점유를 잃으면 지급을 롤백하고 재채점 대기열에도 등록하지 않음")
+    void process_LeaseLost() {
+        // given
+        AnswerScore score = new AnswerScore(1L, 4, 4, 4, 40, "좋음");
+        ProblemSubmissionResponse result = new ProblemSubmissionResponse(
+                "제출 완료! 포인트가 지급되었습니다 🎉", 4, 4, 4, 4, 40, 1, "종합");
+        when(answerScoringService.scoreSubmission(eq(items), any(AnswerScoringService.ScoreListener.class)))
+                .thenReturn(new SubmissionScores(List.of(score), "종합"));
+        when(problemService.settleSubmission(eq(1L), any(SubmissionScores.class))).thenReturn(result);
+        when(jobStore.complete(eq("job-1"), anyString(), eq(result))).thenReturn(false);
+
+        // when
+        worker.process(new ScoringJobStore.ClaimedJob("job-1", 1L, items, 1));
+
+        // then
+        verify(problemService, never()).scheduleRescoring(any(), anyList(), any(SubmissionScores.class));
+        verify(jobStore, never()).retryLater(anyString(), anyString(), any(Instant.class), anyString());
+        verify(jobStore, never()).fail(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("작업 큐 - 채점이 길어지면 점유 연장")
+    void process_RenewsLease() {
+        // given
+        ScoringJobWorker shortLease = new ScoringJobWorker(jobStore, answerScoringService, problemService,
+                submissionJobService, admissionController, new TransactionTemplate(transactionManager),
+                true, 2, 30, 3, 1000, 8000, 24);
+        when(answerScoringService.scoreSubmission(eq(items), any(AnswerScoringService.ScoreListener.class)))
+                .thenAnswer(inv -> {
+                    Thread.sleep(100);
+                    throw new IllegalStateException("Gemini 오류");
+                });
+
+        // when
+        shortLease.process(new ScoringJobStore.ClaimedJob("job-1", 1L, items, 1));
+        shortLease.shutdown();
+
+        // then
+        verify(jobStore, atLeastOnce()).extendLease(eq("job-1"), anyString(), eq(Duration.ofMillis(30)));
+    }
+
+    @Test
+    @DisplayName("작업 큐 - 실패하면 백오프 후 재시도, 최대 시도 횟수면 실패 처리")
+    void process_RetriesThenFails() {
+        // given
+        when(answerScoringService.scoreSubmission(anyList(), any(AnswerScoringService.ScoreListener.class)))
+                .thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        worker.process(new ScoringJobStore.ClaimedJob("job-1", 1L, items, 1));
+        worker.process(new ScoringJobStore.ClaimedJob("job-1", 1L, items, 3));
+
+        // then
+        verify(jobStore).retryLater(eq("job-1"), anyString(), any(Instant.class), eq("DB 오류"));
+        verify(jobStore).fail(eq("job-1"), anyString(), eq("DB 오류"));
+        verify(problemService, never()).settleSubmission(any(), any(SubmissionScores.class));
+    }
+
+    @Test
+    @DisplayName("작업 큐 - 폴링마다 대기 작업 수를 갱신해 접수 한도에 반영")
+    void poll_UpdatesBacklog() {
+        // given
+        when(jobStore.countPending()).thenReturn(7L);
+        when(jobStore.claim(anyString(), eq(2), eq(Duration.ofMillis(60_000)), eq(3))).thenReturn(List.of());
+
+        // when
+        worker.poll();
+
+        // then
+        assertThatThrownBy(() -> admissionController.checkQueueBacklog(7))
+                .isInstanceOf(RateLimitExceededException.class);
+        admissionController.checkQueueBacklog(8);
+    }
+
+    @Test
+    @DisplayName("작업 큐 - 백오프는 시도마다 두 배, 상한 이내")
+    void backoff() {
+        // when & then
+        assertThat(worker.backoff(1)).isBetween(Duration.ofMillis(500), Duration.ofMillis(1000));
+        assertThat(worker.backoff(3)).isBetween(Duration.ofMillis(2000), Duration.ofMillis(4000));
+        assertThat(worker.backoff(10)).isBetween(Duration.ofMillis(4000), Duration.ofMillis(8000));
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.ododok.service;
+
+import com.example.ododok.dto.AnswerScore;
+import com.example.ododok.dto.ProblemSubmissionRequest;
+import com.example.ododok.dto.ProblemSubmissionResponse;
+import com.example.ododok.dto.ScoringItem;
+import com.example.ododok.dto.SubmissionJobResponse;
+import com.example.ododok.dto.SubmissionScores;
+import com.example.ododok.exception.BusinessException;
+import com.example.ododok.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionJobServiceTest {
+
+    @Mock
+    private ProblemService problemService;
+
+    @Mock
+    private AnswerScoringService answerScoringService;
+
+    @Mock
+    private ScoringJobStore jobStore;
+
+    @Spy
+    private ScoringAdmissionController admissionController =
+            new ScoringAdmissionController(4, 4, 1000, new SimpleMeterRegistry());
+
+    @InjectMocks
+    private SubmissionJobService submissionJobService;
+
+    @AfterEach
+    void tearDown() {
+        submissionJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("비동기 제출 - 백그라운드 채점 후 완료 상태로 조회")
+    void submit_CompletesInBackground() throws Exception {
+        // given
+        ProblemSubmissionRequest request = new ProblemSubmissionRequest();
+        ScoringItem item = new ScoringItem(1L, "기술면접", "q", "a", null);
+        AnswerScore score = new AnswerScore(1L, 4, 4, 4, 40, "좋음");
+        ProblemSubmissionResponse result = new ProblemSubmissionResponse(
+                "제출 완료! 포인트가 지급되었습니다 🎉", 4, 4, 4, 4, 40, 1, "종합");
+
+        when(problemService.prepareSubmission(request, 1L)).thenReturn(List.of(item));
+        when(answerScoringService.scoreSubmission(anyList(), any(AnswerScoringService.ScoreListener.class)))
+                .thenAnswer(inv -> {
+                    AnswerScoringService.ScoreListener listener = inv.getArgument(1);
+                    listener.onScored(0, score);
+                    return new SubmissionScores(List.of(score), "종합");
+                });
+        when(problemService.completeSubmission(eq(1L), anyList(), any(SubmissionScores.class))).thenReturn(result);
+
+        // when
+        SubmissionJobResponse accepted = submissionJobService.submit(request, 1L);
+
+        // then
+        assertThat(accepted.getJobId()).isNotBlank();
+        assertThat(accepted.getTotalAnswers()).isEqualTo(1);
+
+        SubmissionJobResponse polled = submissionJobService.getJob(accepted.getJobId(), 1L);
+        for (int i = 0; i < 100 && !"COMPLETED".equals(polled.getStatus()); i++) {
+            Thread.sleep(20);
+            polled = submissionJobService.getJob(accepted.getJobId(), 1L);
+        }
+        assertThat(polled.getStatus()).isEqualTo("COMPLETED");
+        assertThat(polled.getCompletedAnswers()).isEqualTo(1);
+        assertThat(polled.getAnswers()).containsExactly(score);
+        assertThat(polled.getResult().getPointsEarned()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("작업 조회 - 다른 사용자의 작업은 찾을 수 없음")
+    void getJob_OtherUser() {
+        // given
+        ProblemSubmissionRequest request = new ProblemSubmissionRequest();
+        when(problemService.prepareSubmission(request, 1L))
+                .thenReturn(List.of(new ScoringItem(1L, "기술면접", "q", "a", null)));
+
+        SubmissionJobResponse accepted = submissionJobService.submit(request, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> submissionJobService.getJob(accepted.getJobId(), 2L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("채점 작업을 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("비동기 제출 - 작업 큐 사용 시 테이블에 저장하고, 다른 노드의 작업은 저장된 상태로 조회")
+    void submit_DurableQueue() {
+        // given
+        ReflectionTestUtils.setField(submissionJobService, "durableQueue", true);
+        ReflectionTestUtils.setField(submissionJobService, "maxPendingJobs", 100L);
+        ProblemSubmissionRequest request = new ProblemSubmissionRequest();
+        List<ScoringItem> items = List.of(new ScoringItem(1L, "기술면접", "q", "a", null));
+        when(problemService.prepareSubmission(request, 1L)).thenReturn(items);
+
+        ProblemSubmissionResponse result = new ProblemSubmissionResponse(
+                "제출 완료! 포인트가 지급되었습니다 🎉", 4, 4, 4, 4, 40, 1, "종합");
+        when(jobStore.find("remote-job")).thenReturn(Optional.of(
+                new ScoringJobStore.StoredJob("remote-job", 1L, "COMPLETED", 2, result, null)));
+
+        // when
+        SubmissionJobResponse accepted = submissionJobService.submit(request, 1L);
+        SubmissionJobResponse remote = submissionJobService.getJob("remote-job", 1L);
+
+        // then
+        verify(jobStore).enqueue(accepted.getJobId(), 1L, items);
+        verify(answerScoringService, never()).scoreSubmission(anyList(), any(AnswerScoringService.ScoreListener.class));
+        assertThat(accepted.getStatus()).isEqualTo("PENDING");
+        assertThat(remote.getStatus()).isEqualTo("COMPLETED");
+        assertThat(remote.getCompletedAnswers()).isEqualTo(2);
+        assertThat(remote.getResult().getPointsEarned()).isEqualTo(40);
+        assertThatThrownBy(() -> submissionJobService.getJob("remote-job", 2L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("채점 작업을 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("작업 큐 사용 시 - 대기 작업이 한도에 닿으면 검증/저장 전에 429로 거절")
+    void submit_DurableQueue_RejectsWhenBacklogFull() {
+        // given
+        ReflectionTestUtils.setField(submissionJobService, "durableQueue", true);
+        ReflectionTestUtils.setField(submissionJobService, "maxPendingJobs", 100L);
+        admissionController.updateQueueBacklog(100);
+
+        // when & then
+        assertThatThrownBy(() -> submissionJobService.submit(new ProblemSubmissionRequest(), 1L))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting(e -> ((RateLimitExceededException) e).getErrorCode())
+                .isEqualTo("SCORING_QUEUE_FULL");
+        verify(problemService, never()).prepareSubmission(any(), any());
+        verify(jobStore, never()).enqueue(any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("작업 큐 사용 시 - 다른 노드가 끝낸 로컬 작업은 한 번의 조회로 저장된 상태를 반영")
+    void syncDurableJobs_CompletesLocalJob() {
+        // given
+        ReflectionTestUtils.setField(submissionJobService, "durableQueue", true);
+        ReflectionTestUtils.setField(submissionJobService, "maxPendingJobs", 100L);
+        ProblemSubmissionRequest request = new ProblemSubmissionRequest();
+        when(problemService.prepareSubmission(request, 1L))
+                .thenReturn(List.of(new ScoringItem(1L, "기술면접", "q", "a", null)));
+        SubmissionJobResponse accepted = submissionJobService.submit(request, 1L);
+
+        ProblemSubmissionResponse result = new ProblemSubmissionResponse(
+                "제출 완료! 포인트가 지급되었습니다 🎉", 4, 4, 4, 4, 40, 1, "종합");
+        when(jobStore.findAll(List.of(accepted.getJobId()))).thenReturn(Map.of(accepted.getJobId(),
+                new ScoringJobStore.StoredJob(accepted.getJobId(), 1L, "COMPLETED", 1, result, null)));
+
+        // when
+        submissionJobService.syncDurableJobs();
+
+        // then
+        verify(jobStore, never()).find(accepted.getJobId());
+        assertThat(submissionJobService.localJob(accepted.getJobId()).orElseThrow().isFinished()).isTrue();
+        SubmissionJobResponse polled = submissionJobService.getJob(accepted.getJobId(), 1L);
+        assertThat(polled.getStatus()).isEqualTo("COMPLETED");
+        assertThat(polled.getResult().getPointsEarned()).isEqualTo(40);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.ododok.service;
+
+import com.example.ododok.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserRankIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("DB에서 읽은 포인트로 랭크 계산 - 동점이면 userId가 작은 쪽이 앞")
+    void rebuild_RanksByPointsThenUserId() {
+        // given
+        when(userRepository.findAllPoints()).thenReturn(List.of(
+                userPoints(1L, 4500), userPoints(2L, 5000), userPoints(3L, 4500), userPoints(4L, 0)));
+        UserRankIndex index = new UserRankIndex(userRepository, new SimpleMeterRegistry());
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.rankOf(2L, 5000)).isEqualTo(1);
+        assertThat(index.rankOf(1L, 4500)).isEqualTo(2);
+        assertThat(index.rankOf(3L, 4500)).isEqualTo(3);
+        assertThat(index.rankOf(4L, 0)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("반영 전 새 포인트 기준 랭크 - 이전 포인트의 자기 자신은 세지 않음")
+    void rankOf_ExcludesOwnPreviousEntry() {
+        // given
+        when(userRepository.findAllPoints()).thenReturn(List.of(
+                userPoints(1L, 100), userPoints(2L, 200), userPoints(3L, 300)));
+        UserRankIndex index = new UserRankIndex(userRepository, new SimpleMeterRegistry());
+        index.rebuild();
+
+        // when
+        int promoted = index.rankOf(1L, 250);
+        int demoted = index.rankOf(3L, 50);
+
+        // then
+        assertThat(promoted).isEqualTo(2);
+        assertThat(demoted).isEqualTo(3);
+        assertThat(index.rankOf(1L, 100)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("인덱스에 없던 사용자는 포인트 반영 시 추가")
+    void update_InsertsUnknownUser() {
+        // given
+        when(userRepository.findAllPoints()).thenReturn(List.of(userPoints(1L, 100)));
+        UserRankIndex index = new UserRankIndex(userRepository, new SimpleMeterRegistry());
+        index.rebuild();
+
+        // when
+        index.update(2L, 150);
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.rankOf(2L, 150)).isEqualTo(1);
+        assertThat(index.rankOf(1L, 100)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재구성 중 들어온 포인트 반영은 새 인덱스에도 남음")
+    void rebuild_KeepsUpdatesMadeWhileReading() {
+        // given
+        when(userRepository.findAllPoints()).thenReturn(List.of(userPoints(1L, 100), userPoints(2L, 200)));
+        UserRankIndex index = new UserRankIndex(userRepository, new SimpleMeterRegistry());
+        index.rebuild();
+        // DB를 읽는 사이 다른 요청이 포인트를 반영 (읽은 결과에는 아직 없음)
+        when(userRepository.findAllPoints()).thenAnswer(invocation -> {
+            index.update(1L, 300);
+            index.update(3L, 50);
+            return List.of(userPoints(1L, 100), userPoints(2L, 200));
+        });
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.rankOf(1L, 300)).isEqualTo(1);
+        assertThat(index.rankOf(2L, 200)).isEqualTo(2);
+        assertThat(index.rankOf(3L, 50)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("임의 갱신을 반복해도 전체 정렬 결과와 랭크가 같음")
+    void update_MatchesFullSort() {
+        // given
+        when(userRepository.findAllPoints()).thenReturn(List.of());
+        UserRankIndex index = new UserRankIndex(userRepository, new SimpleMeterRegistry());
+        index.rebuild();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 2000; i++) {
+            long userId = random.nextInt(300) + 1;
+            int points = random.nextInt(50) * 10;
+            index.update(userId, points);
+            expected.put(userId, points);
+        }
+
+        // then
+        List<Map.Entry<Long, Integer>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+        assertThat(index.size()).isEqualTo(expected.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            Map.Entry<Long, Integer> entry = sorted.get(i);
+            assertThat(index.rankOf(entry.getKey(), entry.getValue())).isEqualTo(i + 1);
+        }
+    }
+
+    private UserRepository.UserPoints userPoints(Long userId, Integer points) {
+        return new UserRepository.UserPoints() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Integer getPoints() {
+                return points;
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.ododok.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("요청 제한 - capacity까지 허용 후 다음 토큰까지 남은 시간 반환")
+    void rejectsAfterCapacity() {
+        // given
+        UserRateLimiter limiter = new UserRateLimiter(true, 3, 6, 10, 4, meterRegistry);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("user:1")).isZero();
+        }
+        Duration retryAfter = limiter.tryAcquire("user:1");
+
+        // then
+        assertThat(retryAfter).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(10));
+        // 다른 사용자는 별도 버킷
+        assertThat(limiter.tryAcquire("user:2")).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 제한 - 10문항 면접 세션(답변 0.25 × 10 + 제출 1)은 기본 버킷 안에서 처리")
+    void chargesSessionAnswersLess() {
+        // given
+        UserRateLimiter limiter = new UserRateLimiter(true, 10, 10, 10, 4, meterRegistry);
+
+        // when & then
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("user:1", 0.25)).isZero();
+        }
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 제한 - 시간이 지나면 토큰 회복")
+    void refills() throws InterruptedException {
+        // given (1ms마다 1개 회복)
+        UserRateLimiter limiter = new UserRateLimiter(true, 1, 60_000, 10, 4, meterRegistry);
+        limiter.tryAcquire("user:1");
+        assertThat(limiter.tryAcquire("user:1")).isPositive();
+
+        // when
+        Thread.sleep(5);
+
+        // then
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 제한 - 가득 찰 만큼 쉰 버킷은 제거")
+    void evictsIdleBuckets() throws InterruptedException {
+        // given
+        UserRateLimiter limiter = new UserRateLimiter(true, 1, 60_000, 0, 4, meterRegistry);
+        limiter.tryAcquire("user:1");
+        limiter.tryAcquire("user:2");
+        assertThat(meterRegistry.get("ratelimit.user.buckets").gauge().value()).isEqualTo(2);
+
+        // when
+        Thread.sleep(5);
+        limiter.evictIdleBuckets();
+
+        // then
+        assertThat(meterRegistry.get("ratelimit.user.buckets").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 제한 - 비활성화면 항상 허용")
+    void disabled() {
+        // given
+        UserRateLimiter limiter = new UserRateLimiter(false, 1, 1, 10, 4, meterRegistry);
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("user:1")).isZero();
+        }
+    }
+}
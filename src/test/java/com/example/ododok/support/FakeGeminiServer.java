@@ -0,0 +1,400 @@
+package com.example.ododok.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gemini generateContent/streamGenerateContent 로컬 대역 서버 (할당량 없이 채점 파이프라인 부하 테스트용)
+ * 프롬프트 형식을 보고 기술/인성/일괄 채점 JSON을 만들어 응답하고,
+ * 지연 분포, 오류율, 깨진 JSON 비율, 실제 응답 녹화/재생을 설정할 수 있음
+ *
+ * <pre>
+ * FakeGeminiServer server = new FakeGeminiServer()
+ *         .latency(FakeGeminiServer.Latency.logNormal(Duration.ofMillis(800), 0.5))
+ *         .errorRate(0.05)
+ *         .start();
+ * // gemini.api.base-url=server.baseUrl()
+ * </pre>
+ */
+public class FakeGeminiServer implements AutoCloseable {
+
+    private static final Pattern BATCH_ITEM = Pattern.compile("^\\[(\\d+)] ([TP])$", Pattern.MULTILINE);
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+    private final AtomicInteger malformed = new AtomicInteger();
+    private final AtomicInteger replayMisses = new AtomicInteger();
+    private final AtomicInteger streamedChunks = new AtomicInteger();
+
+    private Random random = new Random();
+    private Latency latency = Latency.fixed(Duration.ZERO);
+    private double errorRate;
+    private int errorStatus = 503;
+    private double malformedRate;
+    private String upstreamBaseUrl;
+    private Path recordDirectory;
+    private Path replayDirectory;
+
+    private HttpServer server;
+    private HttpClient upstreamClient;
+
+    /**
+     * 응답 지연 분포
+     */
+    public interface Latency {
+        Duration next(Random random);
+
+        static Latency fixed(Duration delay) {
+            return random -> delay;
+        }
+
+        static Latency uniform(Duration min, Duration max) {
+            long span = max.toMillis() - min.toMillis();
+            return random -> min.plusMillis(span <= 0 ? 0 : (long) (random.nextDouble() * span));
+        }
+
+        /**
+         * 중앙값 기준 로그정규 분포 (실제 LLM 응답처럼 긴 꼬리)
+         */
+        static Latency logNormal(Duration median, double sigma) {
+            return random -> Duration.ofMillis(Math.round(median.toMillis() * Math.exp(sigma * random.nextGaussian())));
+        }
+    }
+
+    public FakeGeminiServer seed(long seed) {
+        this.random = new Random(seed);
+        return this;
+    }
+
+    public FakeGeminiServer latency(Latency latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * rate 비율의 요청에 status 오류 응답 (기본 503)
+     */
+    public FakeGeminiServer errorRate(double rate) {
+        this.errorRate = rate;
+        return this;
+    }
+
+    public FakeGeminiServer errorStatus(int status) {
+        this.errorStatus = status;
+        return this;
+    }
+
+    /**
+     * rate 비율의 요청에 잘리거나 JSON이 아닌 텍스트 응답
+     */
+    public FakeGeminiServer malformedRate(double rate) {
+        this.malformedRate = rate;
+        return this;
+    }
+
+    /**
+     * 실제 Gemini로 전달하고 성공 응답을 directory에 저장 (요청 본문 해시 기준)
+     */
+    public FakeGeminiServer recordFrom(String upstreamBaseUrl, Path directory) {
+        this.upstreamBaseUrl = upstreamBaseUrl;
+        this.recordDirectory = directory;
+        return this;
+    }
+
+    /**
+     * directory에 녹화된 응답 재생 (녹화본이 없으면 합성 응답)
+     */
+    public FakeGeminiServer replayFrom(Path directory) {
+        this.replayDirectory = directory;
+        return this;
+    }
+
+    public FakeGeminiServer start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // 지연 주입 중에도 동시 요청을 막지 않도록 요청마다 가상 스레드
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+        if (upstreamBaseUrl != null) {
+            upstreamClient = HttpClient.newHttpClient();
+        }
+        return this;
+    }
+
+    /**
+     * gemini.api.base-url 에 넣을 주소
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1beta";
+    }
+
+    public int requestCount() {
+        return requests.get();
+    }
+
+    public int errorCount() {
+        return errors.get();
+    }
+
+    public int malformedCount() {
+        return malformed.get();
+    }
+
+    public int replayMissCount() {
+        return replayMisses.get();
+    }
+
+    public int streamedChunkCount() {
+        return streamedChunks.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            boolean stream = path.endsWith(":streamGenerateContent");
+            if (!"POST".equals(exchange.getRequestMethod()) || !(stream || path.endsWith(":generateContent"))) {
+                send(exchange, 404, error(404, "NOT_FOUND", "Unknown method: " + path));
+                return;
+            }
+
+            requests.incrementAndGet();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            sleep(latency.next(random));
+
+            if (random.nextDouble() < errorRate) {
+                errors.incrementAndGet();
+                send(exchange, errorStatus, error(errorStatus, "UNAVAILABLE", "Injected failure"));
+                return;
+            }
+
+            if (upstreamBaseUrl != null) {
+                forwardAndRecord(exchange, path, body);
+                return;
+            }
+
+            String recorded = replay(body);
+            if (recorded != null) {
+                send(exchange, 200, recorded);
+                return;
+            }
+
+            String prompt = promptOf(body);
+            String text = random.nextDouble() < malformedRate ? malformedText() : respond(prompt, structured(body));
+            if (stream) {
+                sendStream(exchange, text, usage(prompt, text));
+            } else {
+                send(exchange, 200, new JSONObject(envelope(text)).put("usageMetadata", usage(prompt, text)).toString());
+            }
+        }
+    }
+
+    private void forwardAndRecord(HttpExchange exchange, String path, String body) throws IOException {
+        String upstreamPath = path.substring(path.indexOf("/models/"));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(upstreamBaseUrl + upstreamPath))
+                .header("Content-Type", "application/json")
+                .header("x-goog-api-key", String.valueOf(exchange.getRequestHeaders().getFirst("x-goog-api-key")))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<String> response = upstreamClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                Files.createDirectories(recordDirectory);
+                Files.writeString(recordDirectory.resolve(key(body) + ".json"), response.body());
+            }
+            send(exchange, response.statusCode(), response.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send(exchange, 502, error(502, "UNAVAILABLE", "Upstream interrupted"));
+        }
+    }
+
+    private String replay(String body) throws IOException {
+        if (replayDirectory == null) {
+            return null;
+        }
+        Path file = replayDirectory.resolve(key(body) + ".json");
+        if (Files.exists(file)) {
+            return Files.readString(file);
+        }
+        replayMisses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * GeminiService 프롬프트 형식에 맞춘 합성 응답
+     */
+    private String respond(String prompt, boolean structured) {
+        if (prompt.contains("\"results\"")) {
+            JSONArray results = new JSONArray();
+            Matcher matcher = BATCH_ITEM.matcher(prompt);
+            while (matcher.find()) {
+                JSONObject entry = "T".equals(matcher.group(2)) ? technical() : personality();
+                results.put(entry.put("index", Integer.parseInt(matcher.group(1))));
+            }
+            return new JSONObject()
+                    .put("results", results)
+                    .put("overallComment", "핵심 개념을 잘 이해하고 있습니다. 사례를 더하면 설득력이 높아집니다.")
+                    .toString();
+        }
+        if (prompt.contains("logicScore")) {
+            // 구조화 출력 요청이 아니면 실제 모델처럼 마크다운 코드블록으로 감쌈
+            return structured ? technical().toString() : "```json\n" + technical() + "\n```";
+        }
+        if (prompt.contains("isRelevant")) {
+            return personality().toString();
+        }
+        return "핵심을 잘 짚은 답변입니다. 구체적인 예시를 보완하면 더 좋습니다.";
+    }
+
+    private JSONObject technical() {
+        return new JSONObject()
+                .put("logicScore", random.nextInt(6))
+                .put("accuracyScore", random.nextInt(6))
+                .put("clarityScore", random.nextInt(6))
+                .put("feedback", "개념 설명이 정확합니다.");
+    }
+
+    private JSONObject personality() {
+        boolean relevant = random.nextDouble() < 0.8;
+        return new JSONObject()
+                .put("isRelevant", relevant)
+                .put("pointsAwarded", relevant ? 10 : 0)
+                .put("feedback", relevant ? "질문 의도에 맞는 답변입니다." : "질문과 관련이 적습니다.");
+    }
+
+    private String malformedText() {
+        malformed.incrementAndGet();
+        return switch (random.nextInt(3)) {
+            case 0 -> "{\"logicScore\":3,\"accuracyScore\":";
+            case 1 -> "죄송하지만 해당 답변은 평가할 수 없습니다.";
+            default -> "{\"results\":[{\"index\":0,\"logicScore\":\"high\"}]";
+        };
+    }
+
+    private static String promptOf(String body) {
+        try {
+            return new JSONObject(body)
+                    .getJSONArray("contents").getJSONObject(0)
+                    .getJSONArray("parts").getJSONObject(0)
+                    .getString("text");
+        } catch (RuntimeException e) {
+            return "";
+        }
+    }
+
+    private static boolean structured(String body) {
+        try {
+            JSONObject config = new JSONObject(body).optJSONObject("generationConfig");
+            return config != null && "application/json".equals(config.optString("responseMimeType"));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static String envelope(String text) {
+        JSONObject part = new JSONObject().put("text", text);
+        JSONObject content = new JSONObject().put("role", "model").put("parts", new JSONArray().put(part));
+        JSONObject candidate = new JSONObject().put("content", content).put("finishReason", "STOP");
+        return new JSONObject().put("candidates", new JSONArray().put(candidate)).toString();
+    }
+
+    /**
+     * 실제 응답처럼 usageMetadata 포함 (토큰 수는 글자 수 기반 추정치)
+     */
+    private static JSONObject usage(String prompt, String text) {
+        int promptTokens = prompt.length() / 2 + 1;
+        int candidatesTokens = text.length() / 2 + 1;
+        return new JSONObject()
+                .put("promptTokenCount", promptTokens)
+                .put("candidatesTokenCount", candidatesTokens)
+                .put("totalTokenCount", promptTokens + candidatesTokens);
+    }
+
+    private static String error(int code, String status, String message) {
+        return new JSONObject()
+                .put("error", new JSONObject().put("code", code).put("message", message).put("status", status))
+                .toString();
+    }
+
+    private static String key(String body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * streamGenerateContent?alt=sse 형식으로 텍스트를 어절 단위 조각으로 나눠 전송 (마지막은 종료 이벤트)
+     */
+    private void sendStream(HttpExchange exchange, String text, JSONObject usage) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (String chunk : text.split("(?<= )")) {
+                out.write(("data: " + envelope(chunk) + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                streamedChunks.incrementAndGet();
+            }
+            JSONObject finish = new JSONObject().put("candidates", new JSONArray()
+                    .put(new JSONObject().put("finishReason", "STOP")))
+                    .put("usageMetadata", usage);
+            out.write(("data: " + finish + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void sleep(Duration delay) {
+        if (delay.isNegative() || delay.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}